@@ -0,0 +1,217 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ServiceUnavailableException;
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.DetectedLanguage;
+import com.nexus.lingustix.components.LanguageToolComponent.Match;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import org.languagetool.JLanguageTool;
+import org.languagetool.Language;
+import org.languagetool.Languages;
+import org.languagetool.language.identifier.LanguageIdentifier;
+import org.languagetool.language.identifier.LanguageIdentifierService;
+import org.languagetool.rules.RuleMatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// In-process LanguageTool; JLanguageTool is not thread-safe, so each language has a pool of checkers
+@Component
+@ConditionalOnProperty(name = "languagetool.engine", havingValue = "embedded")
+public class EmbeddedLanguageToolComponent implements LanguageToolEngine {
+
+    private static final String AUTO_LANGUAGE = "auto";
+    private static final String WARM_UP_TEXT = "This is a example sentence to warm up the checker.";
+
+    private final int poolSize;
+    private final int maxReplacements;
+    private final long borrowTimeoutMs;
+    private final List<Language> preferredLanguages;
+    private final LanguageIdentifier languageIdentifier;
+    private final Map<String, CheckerPool> pools = new ConcurrentHashMap<>();
+
+    public EmbeddedLanguageToolComponent(@Value("${languagetool.embedded.languages:en-US}") String[] languages,
+                                         @Value("${languagetool.embedded.pool-size:4}") int poolSize,
+                                         @Value("${languagetool.embedded.borrow-timeout-ms:5000}") long borrowTimeoutMs,
+                                         @Value("${languagetool.response.max-replacements:3}") int maxReplacements) {
+        this.poolSize = Math.max(1, poolSize);
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.maxReplacements = maxReplacements;
+        this.preferredLanguages = Arrays.stream(languages)
+                .map(String::strip)
+                .filter(code -> !code.isEmpty())
+                .map(EmbeddedLanguageToolComponent::resolve)
+                .toList();
+        this.languageIdentifier = languageIdentifier();
+        warmUp();
+    }
+
+    @Override
+    public Response check(CheckRequest request, Permits permits) {
+        Language resolved = AUTO_LANGUAGE.equals(request.language()) ? detect(request.text()) : resolve(request.language());
+        CheckerPool pool = pools.computeIfAbsent(resolved.getShortCodeWithCountryAndVariant(), code -> new CheckerPool(resolved));
+
+        JLanguageTool checker = pool.borrow();
+        try {
+            List<RuleMatch> ruleMatches = checker.check(request.text());
+            List<Match> matches = new ArrayList<>(ruleMatches.size());
+            for (RuleMatch ruleMatch : ruleMatches) {
+                String ruleId = ruleMatch.getRule().getId();
+                String categoryId = ruleMatch.getRule().getCategory().getId().toString();
+                // Checkers are shared by all accounts, so disabled rules are filtered out rather than switched off
+                if (request.disabledRules().contains(ruleId) || request.disabledCategories().contains(categoryId)) continue;
+
+                matches.add(new Match(
+                        ruleMatch.getFromPos(),
+                        ruleMatch.getToPos() - ruleMatch.getFromPos(),
+                        message(ruleMatch),
+                        replacements(ruleMatch),
+                        ruleId,
+                        categoryId));
+            }
+            return new Response(matches, new DetectedLanguage(resolved.getName(), resolved.getShortCodeWithCountryAndVariant()));
+        } catch (IOException | RuntimeException e) {
+            throw new ServiceUnavailableException("LanguageTool check failed");
+        } finally {
+            pool.release(checker);
+        }
+    }
+
+    @Override
+    public boolean supports(String language) {
+        return Languages.isLanguageSupported(language);
+    }
+
+    /**
+     * Creates and exercises every checker of the preferred languages in parallel,
+     * so that startup fails early when a language module is broken.
+     */
+    private void warmUp() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> warmUps = new ArrayList<>();
+            for (Language language : preferredLanguages) {
+                CheckerPool pool = pools.computeIfAbsent(language.getShortCodeWithCountryAndVariant(), code -> new CheckerPool(language));
+                for (int i = 0; i < poolSize; i++) warmUps.add(executor.submit(pool::warmUp));
+            }
+            for (Future<?> warmUp : warmUps) warmUp.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while warming up LanguageTool", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not warm up LanguageTool", e.getCause());
+        }
+    }
+
+    /**
+     * LanguageTool's identifier needs the modules of the languages it knows
+     * about; with a single language on the classpath there is nothing to detect.
+     */
+    private static LanguageIdentifier languageIdentifier() {
+        if (Languages.get().stream().map(Language::getShortCode).distinct().count() < 2) return null;
+        try {
+            return LanguageIdentifierService.INSTANCE.getDefaultLanguageIdentifier(0, null, null, null);
+        } catch (ExceptionInInitializerError | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Detects the language of {@code text}, falling back to the first preferred
+     * language when it cannot be identified. Detected languages without a
+     * country are checked with their default variant, which includes spelling.
+     */
+    private Language detect(String text) {
+        Language detected = languageIdentifier == null ? null : languageIdentifier.detectLanguage(text);
+        if (detected == null) {
+            if (preferredLanguages.isEmpty()) throw new BadRequestException("Could not detect the language of the text");
+            return preferredLanguages.getFirst();
+        }
+        Language variant = detected.getDefaultLanguageVariant();
+        return variant != null ? variant : detected;
+    }
+
+    private List<String> replacements(RuleMatch ruleMatch) {
+        List<String> replacements = ruleMatch.getSuggestedReplacements();
+        return replacements.size() > maxReplacements ? List.copyOf(replacements.subList(0, maxReplacements)) : replacements;
+    }
+
+    private static Language resolve(String code) {
+        if (!Languages.isLanguageSupported(code)) throw new BadRequestException("Unsupported language: " + code);
+        return Languages.getLanguageForShortCode(code);
+    }
+
+    /**
+     * LanguageTool messages mark suggestions with {@code <suggestion>} tags; the
+     * HTTP API renders them as quotes.
+     */
+    private static String message(RuleMatch ruleMatch) {
+        return ruleMatch.getMessage()
+                .replace("<suggestion>", "\"")
+                .replace("</suggestion>", "\"");
+    }
+
+    private final class CheckerPool {
+        private final Language language;
+        private final BlockingQueue<JLanguageTool> idle = new LinkedBlockingQueue<>();
+        private final AtomicInteger created = new AtomicInteger();
+
+        private CheckerPool(Language language) {
+            this.language = language;
+        }
+
+        private JLanguageTool borrow() {
+            JLanguageTool checker = idle.poll();
+            if (checker != null) return checker;
+            if (created.incrementAndGet() <= poolSize) return create();
+            created.decrementAndGet();
+            try {
+                checker = idle.poll(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+                if (checker == null) throw new ServiceUnavailableException("LanguageTool is overloaded");
+                return checker;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Interrupted while waiting for a LanguageTool checker");
+            }
+        }
+
+        private JLanguageTool create() {
+            try {
+                return new JLanguageTool(language);
+            } catch (RuntimeException e) {
+                created.decrementAndGet();
+                throw e;
+            }
+        }
+
+        private void release(JLanguageTool checker) {
+            idle.add(checker);
+        }
+
+        private Void warmUp() throws IOException {
+            if (created.incrementAndGet() > poolSize) {
+                created.decrementAndGet();
+                return null;
+            }
+            JLanguageTool checker = create();
+            checker.check(WARM_UP_TEXT);
+            release(checker);
+            return null;
+        }
+    }
+}
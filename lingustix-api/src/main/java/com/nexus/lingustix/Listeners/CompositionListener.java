@@ -7,8 +7,13 @@ import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * JPA Entity Listener that automatically synchronizes the Composition entity
  * with the Elasticsearch search index. This ensures that the search index
@@ -22,21 +27,43 @@ import org.springframework.stereotype.Component;
 public class CompositionListener {
 
     private static CompositionSearchRepository compositionSearchRepository;
+    private static ElasticsearchOperations elasticsearchOperations;
 
     @Autowired
     public void setCompositionSearchRepository(CompositionSearchRepository repository) {
         CompositionListener.compositionSearchRepository = repository;
     }
 
+    @Autowired
+    public void setElasticsearchOperations(ElasticsearchOperations operations) {
+        CompositionListener.elasticsearchOperations = operations;
+    }
+
     @PostPersist
     @PostUpdate
     public void onSaveOrUpdate(Composition composition) {
-        if (compositionSearchRepository != null) {
+        if (compositionSearchRepository != null && elasticsearchOperations != null) {
+            String id = composition.getId().toString();
+            UUID ownerId = composition.getOwner() != null ? composition.getOwner().getId() : null;
+
+            // The body is only loaded when the content changed; otherwise update the other fields in place
+            if (composition.getContent() == null) {
+                Document fields = Document.create();
+                fields.put("title", composition.getTitle());
+                fields.put("ownerId", ownerId != null ? ownerId.toString() : null);
+                UpdateQuery update = UpdateQuery.builder(id)
+                        .withDocument(fields)
+                        .withDocAsUpsert(true)
+                        .build();
+                elasticsearchOperations.update(update, elasticsearchOperations.getIndexCoordinatesFor(CompositionIndex.class));
+                return;
+            }
+
             CompositionIndex index = CompositionIndex.builder()
-                    .id(composition.getId().toString())
+                    .id(id)
                     .title(composition.getTitle())
                     .content(composition.getContent())
-                    .ownerId(composition.getOwner() != null ? composition.getOwner().getId() : null)
+                    .ownerId(ownerId)
                     .build();
             compositionSearchRepository.save(index);
         }
@@ -0,0 +1,100 @@
+package com.nexus.lingustix.components;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.repositories.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Bounded cache of the evaluation preferences of recently active accounts:
+ * ignored words in a compact trie, and the LanguageTool rules and categories
+ * they switched off. Entries are dropped when the account changes them and
+ * expire after {@code app.preferences.cache.expire-after-write-ms}, which bounds
+ * how long other API nodes keep serving the previous preferences.
+ */
+@Component
+public class AccountPreferencesComponent {
+
+    private final AccountRepository accountRepository;
+    private final TextSegmentComponent textSegmentComponent;
+    private final LoadingCache<UUID, Preferences> cache;
+
+    public AccountPreferencesComponent(AccountRepository accountRepository,
+                                       TextSegmentComponent textSegmentComponent,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.preferences.cache.maximum-size:10000}") long maximumSize,
+                                       @Value("${app.preferences.cache.expire-after-write-ms:60000}") long expireAfterWriteMs) {
+        this.accountRepository = accountRepository;
+        this.textSegmentComponent = textSegmentComponent;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "account.preferences");
+    }
+
+    public Preferences get(UUID accountId) {
+        return accountId == null ? Preferences.NONE : cache.get(accountId);
+    }
+
+    public void invalidate(UUID accountId) {
+        cache.invalidate(accountId);
+    }
+
+    private Preferences load(UUID accountId) {
+        List<String> words = accountRepository.findIgnoredWordsById(accountId);
+        Set<String> disabledRules = Set.copyOf(accountRepository.findDisabledRulesById(accountId));
+        Set<String> disabledCategories = Set.copyOf(accountRepository.findDisabledCategoriesById(accountId));
+
+        FastCheckComponent.Trie ignoredWords = new FastCheckComponent.Trie();
+        words.forEach(word -> ignoredWords.add(word.toLowerCase(Locale.ROOT)));
+
+        String rulesKey = disabledRules.isEmpty() && disabledCategories.isEmpty()
+                ? ""
+                : textSegmentComponent.fingerprint(String.join(",", new TreeSet<>(disabledRules)) + '|'
+                        + String.join(",", new TreeSet<>(disabledCategories)));
+        return new Preferences(words.isEmpty() ? null : ignoredWords, disabledRules, disabledCategories, rulesKey);
+    }
+
+    /**
+     * Preferences of one account. {@code rulesKey} identifies the set of disabled
+     * rules and categories (empty when there are none); results obtained from
+     * LanguageTool with them switched off must only be cached under that key.
+     */
+    public record Preferences(FastCheckComponent.Trie ignoredWords, Set<String> disabledRules,
+                              Set<String> disabledCategories, String rulesKey) {
+
+        public static final Preferences NONE = new Preferences(null, Set.of(), Set.of(), "");
+
+        /**
+         * Drops corrections of disabled rules and categories, and those flagging
+         * exactly an ignored word.
+         */
+        public List<Correction> filter(List<Correction> corrections) {
+            if (ignoredWords == null && rulesKey.isEmpty()) return corrections;
+
+            List<Correction> kept = new ArrayList<>(corrections.size());
+            for (Correction correction : corrections) {
+                if (correction.ruleId() != null && disabledRules.contains(correction.ruleId())) continue;
+                if (correction.categoryId() != null && disabledCategories.contains(correction.categoryId())) continue;
+                if (ignoredWords != null && correction.original() != null
+                        && ignoredWords.contains(correction.original().toLowerCase(Locale.ROOT))) continue;
+                kept.add(correction);
+            }
+            return kept;
+        }
+    }
+}
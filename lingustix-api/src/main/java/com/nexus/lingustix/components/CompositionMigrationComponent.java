@@ -0,0 +1,114 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.converters.CompressedTextConverter;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Brings compositions stored by earlier versions up to the current schema.
+ * <p>
+ * At startup, content of the former {@code composition.content} TEXT column is
+ * copied into {@code composition_body} for compositions that have no body yet,
+ * and the column is made nullable so that new compositions can be inserted
+ * without it. The column itself is only dropped when
+ * {@code app.migrations.drop-legacy-content} is set, once no node of an older
+ * version still reads it. Migrated bodies are stored uncompressed and get
+ * compressed on their next write; the table lock makes concurrent API nodes
+ * wait for the first one.
+ * <p>
+ * Once the application is ready, compositions without a word count and excerpt
+ * get them computed from their body in the background, in batches that
+ * concurrent nodes skip for each other.
+ */
+@Component
+public class CompositionMigrationComponent {
+
+    private static final int SUMMARY_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TextSegmentComponent textSegmentComponent;
+    private final CompressedTextConverter compressedTextConverter = new CompressedTextConverter();
+
+    @Value("${app.migrations.drop-legacy-content:false}")
+    private boolean dropLegacyContent;
+
+    /**
+     * Depends on the body repository so that the schema update, which creates
+     * {@code composition_body}, has run before the migration.
+     */
+    public CompositionMigrationComponent(JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         TextSegmentComponent textSegmentComponent,
+                                         CompositionBodyRepository compositionBodyRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.textSegmentComponent = textSegmentComponent;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        migrateBodies();
+        // Superseded by idx_composition_account_last_updated_id, which also covers the keyset tie-break
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_composition_account_last_updated");
+    }
+
+    private void migrateBodies() {
+        if (!hasLegacyContentColumn()) return;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE composition IN SHARE ROW EXCLUSIVE MODE");
+            if (!hasLegacyContentColumn()) return;
+
+            jdbcTemplate.update("INSERT INTO composition_body (composition_id, content) " +
+                    "SELECT c.id, decode('00', 'hex') || convert_to(c.content, 'UTF8') FROM composition c " +
+                    "WHERE c.content IS NOT NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM composition_body b WHERE b.composition_id = c.id) " +
+                    "ON CONFLICT (composition_id) DO NOTHING");
+            jdbcTemplate.execute("ALTER TABLE composition ALTER COLUMN content DROP NOT NULL");
+            if (dropLegacyContent) jdbcTemplate.execute("ALTER TABLE composition DROP COLUMN content");
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSummaries() {
+        Thread.ofVirtual().name("composition-summary-backfill").start(() -> {
+            boolean more;
+            do {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> backfillSummaryBatch()));
+            } while (more);
+        });
+    }
+
+    private boolean backfillSummaryBatch() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT c.id, b.content FROM composition c " +
+                "JOIN composition_body b ON b.composition_id = c.id WHERE c.word_count IS NULL " +
+                "LIMIT ? FOR UPDATE OF c SKIP LOCKED", SUMMARY_BATCH_SIZE);
+        for (Map<String, Object> row : rows) {
+            String content = compressedTextConverter.convertToEntityAttribute((byte[]) row.get("content"));
+            jdbcTemplate.update("UPDATE composition SET word_count = ?, excerpt = ? WHERE id = ?",
+                    textSegmentComponent.wordCount(content),
+                    textSegmentComponent.excerpt(content, Composition.EXCERPT_LENGTH),
+                    (UUID) row.get("id"));
+        }
+        return !rows.isEmpty();
+    }
+
+    private boolean hasLegacyContentColumn() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = 'composition' AND column_name = 'content')", Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,201 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of correction lists ({@value #MEDIA_TYPE}), offered
+ * next to JSON on the evaluation endpoints and for live editing sessions opened
+ * with {@code format=binary}.
+ * <pre>
+ * list       := count:varint correction*
+ * correction := start:svarint length:varint explanation:ref ruleId:ref categoryId:ref original:string suggested:string
+ * ref        := varint index into the string table; index == table size means a string follows
+ *               and becomes the next table entry
+ * string     := (byteLength + 1):varint UTF-8 bytes (0 means null)
+ * </pre>
+ * {@code start} is relative to the start of the previous correction in the list
+ * (zig-zag encoded). The string table lives as long as the {@link Encoder}: one
+ * response over HTTP, the whole session over WebSocket, so every distinct
+ * explanation and rule id crosses the wire once.
+ * <p>
+ * Live editing frames are {@code type:u8 version:varint payload}, where type 1 is
+ * {@code quick-corrections} with a list as payload and type 2 is
+ * {@code corrections} with a delta:
+ * <pre>
+ * delta := version:string baseVersion:string full:u8
+ *          (full = 1) list
+ *          (full = 0) removed:(count:varint index:varint*) shifts:(count:varint (from:varint to:varint delta:svarint)*) added:list
+ * </pre>
+ */
+@Component
+public class CorrectionCodecComponent extends AbstractSmartHttpMessageConverter<List<Correction>> {
+
+    public static final String MEDIA_TYPE = "application/x-lingustix-corrections";
+
+    private static final int QUICK_CORRECTIONS = 1;
+    private static final int CORRECTIONS = 2;
+
+    public CorrectionCodecComponent() {
+        super(MediaType.parseMediaType(MEDIA_TYPE));
+    }
+
+    public Encoder encoder() {
+        return new Encoder();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType type, Class<?> valueClass, MediaType mediaType) {
+        return List.class.isAssignableFrom(type.toClass())
+                && type.asCollection().resolveGeneric(0) == Correction.class
+                && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(List<Correction> corrections, ResolvableType type, HttpOutputMessage outputMessage,
+                                 Map<String, Object> hints) throws IOException {
+        outputMessage.getBody().write(encoder().encode(corrections));
+    }
+
+    @Override
+    public List<Correction> read(ResolvableType type, HttpInputMessage inputMessage, Map<String, Object> hints) {
+        throw new HttpMessageNotReadableException("Corrections cannot be read as " + MEDIA_TYPE, inputMessage);
+    }
+
+    /**
+     * Stateful encoder holding the string table of one response or session.
+     * Frames must be delivered in the order they were encoded.
+     */
+    public static final class Encoder {
+        private final Map<String, Integer> table = new HashMap<>();
+        private byte[] buffer = new byte[256];
+        private int position;
+
+        private Encoder() {
+        }
+
+        public synchronized byte[] encode(List<Correction> corrections) {
+            position = 0;
+            writeList(corrections);
+            return Arrays.copyOf(buffer, position);
+        }
+
+        public synchronized byte[] encodeQuickCorrections(long version, List<Correction> corrections) {
+            position = 0;
+            writeByte(QUICK_CORRECTIONS);
+            writeVarint(version);
+            writeList(corrections);
+            return Arrays.copyOf(buffer, position);
+        }
+
+        public synchronized byte[] encodeCorrections(long version, CorrectionDelta delta) {
+            position = 0;
+            writeByte(CORRECTIONS);
+            writeVarint(version);
+            writeString(delta.version());
+            writeString(delta.baseVersion());
+            if (delta.corrections() != null) {
+                writeByte(1);
+                writeList(delta.corrections());
+            } else {
+                writeByte(0);
+                writeVarint(delta.removed().size());
+                for (int index : delta.removed()) writeVarint(index);
+                writeVarint(delta.shifts().size());
+                for (CorrectionDelta.Shift shift : delta.shifts()) {
+                    writeVarint(shift.from());
+                    writeVarint(shift.to());
+                    writeSignedVarint(shift.delta());
+                }
+                writeList(delta.added());
+            }
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void writeList(List<Correction> corrections) {
+            writeVarint(corrections.size());
+            int previousStart = 0;
+            for (Correction correction : corrections) {
+                writeSignedVarint(correction.startOffset() - previousStart);
+                writeVarint(correction.length());
+                writeReference(correction.explanation());
+                writeReference(correction.ruleId());
+                writeReference(correction.categoryId());
+                writeString(correction.original());
+                writeString(correction.suggested());
+                previousStart = correction.startOffset();
+            }
+        }
+
+        private void writeReference(String value) {
+            Integer index = table.get(value);
+            if (index != null) {
+                writeVarint(index);
+                return;
+            }
+            writeVarint(table.size());
+            writeString(value);
+            table.put(value, table.size());
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1L);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeSignedVarint(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        private void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.nexus.lingustix.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
+import com.nexus.lingustix.models.responses.CorrectionDelta.Shift;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Versions correction sets and computes deltas between them, so that clients
+ * re-evaluating a long document only receive what changed.
+ * <p>
+ * A version is a fingerprint of the corrections themselves. Recently returned
+ * sets are remembered per composition for a while so that a later request can
+ * name one of them as its base.
+ */
+@Component
+public class CorrectionDeltaComponent {
+
+    private static final int MAX_ALIGNMENT_CELLS = 250_000;
+
+    private final TextSegmentComponent textSegmentComponent;
+    private final Cache<String, List<Correction>> versions;
+
+    public CorrectionDeltaComponent(TextSegmentComponent textSegmentComponent,
+                                    @Value("${app.evaluation.delta.maximum-size:10000}") long maximumSize,
+                                    @Value("${app.evaluation.delta.expire-after-access-ms:1800000}") long expireAfterAccessMs) {
+        this.textSegmentComponent = textSegmentComponent;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMs))
+                .build();
+    }
+
+    public String version(List<Correction> corrections) {
+        StringBuilder canonical = new StringBuilder();
+        for (Correction correction : corrections) {
+            canonical.append(correction.startOffset()).append('\u0000')
+                    .append(correction.length()).append('\u0000')
+                    .append(correction.original()).append('\u0000')
+                    .append(correction.suggested()).append('\u0000')
+                    .append(correction.explanation()).append('\u0000')
+                    .append(correction.ruleId()).append('\u0000')
+                    .append(correction.categoryId()).append('\u0001');
+        }
+        return textSegmentComponent.fingerprint(canonical.toString());
+    }
+
+    public String remember(UUID compositionId, List<Correction> corrections) {
+        String version = version(corrections);
+        versions.put(key(compositionId, version), List.copyOf(corrections));
+        return version;
+    }
+
+    /**
+     * Returns the delta from {@code baseVersion} to {@code corrections}, or the
+     * full set when the base version is unknown or expired.
+     */
+    public CorrectionDelta delta(UUID compositionId, String baseVersion, List<Correction> corrections) {
+        String version = remember(compositionId, corrections);
+        List<Correction> base = baseVersion == null ? null : versions.getIfPresent(key(compositionId, baseVersion));
+        if (base == null) return CorrectionDelta.full(version, corrections);
+        return diff(baseVersion, base, version, corrections);
+    }
+
+    /**
+     * Aligns both lists (ordered by offset) on corrections that only differ in
+     * offset: a common prefix and suffix first, then a longest common
+     * subsequence over the remaining middle when it is small enough.
+     */
+    public CorrectionDelta diff(String baseVersion, List<Correction> base, String version, List<Correction> current) {
+        int[] matches = new int[base.size()];
+        Arrays.fill(matches, -1);
+
+        int start = 0;
+        while (start < base.size() && start < current.size() && sameFinding(base.get(start), current.get(start))) {
+            matches[start] = start;
+            start++;
+        }
+        int baseEnd = base.size();
+        int currentEnd = current.size();
+        while (baseEnd > start && currentEnd > start && sameFinding(base.get(baseEnd - 1), current.get(currentEnd - 1))) {
+            matches[--baseEnd] = --currentEnd;
+        }
+        if ((long) (baseEnd - start) * (currentEnd - start) <= MAX_ALIGNMENT_CELLS) {
+            align(base, start, baseEnd, current, start, currentEnd, matches);
+        }
+
+        boolean[] matched = new boolean[current.size()];
+        List<Integer> removed = new ArrayList<>();
+        List<Shift> shifts = new ArrayList<>();
+        for (int i = 0; i < base.size(); i++) {
+            if (matches[i] < 0) {
+                removed.add(i);
+                continue;
+            }
+            matched[matches[i]] = true;
+            int delta = current.get(matches[i]).startOffset() - base.get(i).startOffset();
+            if (delta == 0) continue;
+
+            Shift last = shifts.isEmpty() ? null : shifts.getLast();
+            if (last != null && last.to() == i && last.delta() == delta) {
+                shifts.set(shifts.size() - 1, new Shift(last.from(), i + 1, delta));
+            } else {
+                shifts.add(new Shift(i, i + 1, delta));
+            }
+        }
+
+        List<Correction> added = new ArrayList<>();
+        for (int j = 0; j < current.size(); j++) {
+            if (!matched[j]) added.add(current.get(j));
+        }
+        return new CorrectionDelta(version, baseVersion, null, removed, shifts, added);
+    }
+
+    private void align(List<Correction> base, int baseStart, int baseEnd,
+                       List<Correction> current, int currentStart, int currentEnd, int[] matches) {
+        int rows = baseEnd - baseStart;
+        int columns = currentEnd - currentStart;
+        if (rows == 0 || columns == 0) return;
+
+        int[][] lengths = new int[rows + 1][columns + 1];
+        for (int i = rows - 1; i >= 0; i--) {
+            for (int j = columns - 1; j >= 0; j--) {
+                lengths[i][j] = sameFinding(base.get(baseStart + i), current.get(currentStart + j))
+                        ? lengths[i + 1][j + 1] + 1
+                        : Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+            }
+        }
+        for (int i = 0, j = 0; i < rows && j < columns; ) {
+            if (sameFinding(base.get(baseStart + i), current.get(currentStart + j))) {
+                matches[baseStart + i++] = currentStart + j++;
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+
+    private static boolean sameFinding(Correction a, Correction b) {
+        return a.length() == b.length()
+                && Objects.equals(a.ruleId(), b.ruleId())
+                && Objects.equals(a.original(), b.original())
+                && Objects.equals(a.suggested(), b.suggested())
+                && Objects.equals(a.explanation(), b.explanation());
+    }
+
+    private static String key(UUID compositionId, String version) {
+        return compositionId + ":" + version;
+    }
+}
@@ -0,0 +1,42 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque continuation tokens for keyset pagination: the sort key of the last
+ * item of a page, URL-safe Base64 encoded. Tokens are not signed; a forged one
+ * only moves the caller within results it may already see.
+ */
+@Component
+public class CursorComponent {
+
+    private static final String SEPARATOR = "\n";
+
+    public String encode(Object... values) {
+        String joined = Arrays.stream(values).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token into its {@code size} values, or {@code null} when there
+     * is no token (first page).
+     */
+    public List<String> decode(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            List<String> values = List.of(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1));
+            if (values.size() != size) throw new BadRequestException("Invalid cursor");
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
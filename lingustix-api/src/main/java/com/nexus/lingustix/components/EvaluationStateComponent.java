@@ -0,0 +1,43 @@
+package com.nexus.lingustix.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexus.lingustix.models.responses.Correction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers, per composition, the paragraphs seen by the last evaluation and
+ * their corrections (relative to the start of each paragraph), keyed by the
+ * paragraph fingerprint. Paragraphs whose fingerprint is still present on the
+ * next evaluation in the same language are reused instead of being checked again.
+ */
+@Component
+public class EvaluationStateComponent {
+
+    private final Cache<UUID, State> paragraphs;
+
+    public EvaluationStateComponent(@Value("${languagetool.paragraphs.maximum-compositions:10000}") long maximumCompositions,
+                                    @Value("${languagetool.paragraphs.expire-after-access-ms:1800000}") long expireAfterAccessMs) {
+        this.paragraphs = Caffeine.newBuilder()
+                .maximumSize(maximumCompositions)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMs))
+                .build();
+    }
+
+    public Map<String, List<Correction>> getParagraphs(UUID compositionId, String language) {
+        State state = paragraphs.getIfPresent(compositionId);
+        return state != null && state.language().equals(language) ? state.paragraphs() : Map.of();
+    }
+
+    public void putParagraphs(UUID compositionId, String language, Map<String, List<Correction>> state) {
+        paragraphs.put(compositionId, new State(language, Map.copyOf(state)));
+    }
+
+    private record State(String language, Map<String, List<Correction>> paragraphs) {}
+}
@@ -0,0 +1,338 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.responses.Correction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process first tier of evaluation. It finds obvious issues in microseconds
+ * without a network hop, while LanguageTool remains responsible for the deep
+ * grammar pass.
+ * <p>
+ * Spelling is checked against the word list configured by
+ * {@code languagetool.fast-check.dictionary} (one word per line, {@code classpath:}
+ * or {@code file:} location). Words are stored in a compact trie; a Bloom filter
+ * in front of it rejects most unknown words without walking the trie. Without a
+ * dictionary only the pattern rules run.
+ * <p>
+ * Spelling and the English pattern rules only run when the language of the text
+ * is known and matches theirs; the dictionary is in
+ * {@code languagetool.fast-check.dictionary-language}.
+ */
+@Component
+public class FastCheckComponent {
+
+    private static final Pattern WORD = Pattern.compile("\\p{L}+(?:'\\p{L}+)*");
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final String SPELLING_EXPLANATION = "Possible spelling mistake found.";
+    private static final String SPELLING_RULE = "FAST_CHECK_SPELLING";
+    private static final String SPELLING_CATEGORY = "TYPOS";
+
+    private static final String ENGLISH = "en";
+
+    /**
+     * Rule and category ids follow the matching LanguageTool rules, so that an
+     * account disabling one also silences its quick-check counterpart. Rules
+     * without a language apply to every language.
+     */
+    private static final List<Rule> RULES = List.of(
+            new Rule(Pattern.compile("(?i)\\b(\\p{L}+)\\s+\\1\\b"), match -> match.group(1),
+                    "Possible typo: you repeated a word.", "ENGLISH_WORD_REPEAT_RULE", "MISC", ENGLISH),
+            new Rule(Pattern.compile("(?<=\\S) {2,}(?=\\S)"), match -> " ",
+                    "Possible typo: you repeated a whitespace.", "WHITESPACE_RULE", "TYPOGRAPHY", null),
+            new Rule(Pattern.compile("[ \\t]+(?=[,.;:!?])"), match -> "",
+                    "Don't put a space before punctuation.", "COMMA_PARENTHESIS_WHITESPACE", "TYPOGRAPHY", ENGLISH),
+            new Rule(Pattern.compile("(?<![\\p{L}'.])i(?![\\p{L}']|\\.\\p{L})"), match -> "I",
+                    "The personal pronoun \"I\" should be uppercase.", "I_LOWERCASE", "CASING", ENGLISH)
+    );
+
+    private final Trie dictionary;
+    private final BloomFilter filter;
+    private final String dictionaryLanguage;
+
+    public FastCheckComponent(@Value("${languagetool.fast-check.dictionary:}") String dictionaryLocation,
+                              @Value("${languagetool.fast-check.dictionary-language:en}") String dictionaryLanguage) {
+        this.dictionaryLanguage = dictionaryLanguage;
+        List<String> words = load(dictionaryLocation);
+        this.dictionary = new Trie();
+        this.filter = new BloomFilter(Math.max(words.size(), 1), FALSE_POSITIVE_RATE);
+        for (String word : words) {
+            dictionary.add(word);
+            filter.add(word);
+        }
+    }
+
+    public boolean hasDictionary() {
+        return dictionary.size > 0;
+    }
+
+    /**
+     * Checks {@code text} written in {@code language} (a LanguageTool code such as
+     * {@code en-US}, or {@code null} when not known yet).
+     */
+    public List<Correction> check(String text, String language) {
+        List<Correction> corrections = new ArrayList<>();
+        if (text == null || text.isEmpty()) return corrections;
+
+        if (hasDictionary() && matches(dictionaryLanguage, language)) checkSpelling(text, corrections);
+        for (Rule rule : RULES) {
+            if (rule.language() == null || matches(rule.language(), language)) rule.apply(text, corrections);
+        }
+
+        corrections.sort(Comparator.comparingInt(Correction::startOffset));
+        return corrections;
+    }
+
+    private void checkSpelling(String text, List<Correction> corrections) {
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            String word = matcher.group();
+            if (!shouldCheck(word)) continue;
+
+            String lower = word.toLowerCase(Locale.ROOT);
+            if (contains(lower)) continue;
+
+            String suggestion = suggest(lower);
+            corrections.add(Correction.builder()
+                    .original(word)
+                    .suggested(suggestion == null ? "" : matchCase(word, suggestion))
+                    .startOffset(matcher.start())
+                    .length(word.length())
+                    .explanation(SPELLING_EXPLANATION)
+                    .ruleId(SPELLING_RULE)
+                    .categoryId(SPELLING_CATEGORY)
+                    .build());
+        }
+    }
+
+    /**
+     * Skips single letters and words with capitals after the first letter
+     * (acronyms, product names), which a plain word list cannot judge.
+     */
+    private boolean shouldCheck(String word) {
+        if (word.length() < 2) return false;
+        for (int i = 1; i < word.length(); i++) {
+            if (Character.isUpperCase(word.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private boolean contains(String word) {
+        return filter.mightContain(word) && dictionary.contains(word);
+    }
+
+    /**
+     * Returns the first dictionary word one edit away (transposition, deletion,
+     * substitution or insertion), or {@code null}.
+     */
+    private String suggest(String word) {
+        char[] chars = word.toCharArray();
+
+        for (int i = 0; i + 1 < chars.length; i++) {
+            swap(chars, i, i + 1);
+            String candidate = new String(chars);
+            swap(chars, i, i + 1);
+            if (contains(candidate)) return candidate;
+        }
+        for (int i = 0; i < chars.length; i++) {
+            String candidate = word.substring(0, i) + word.substring(i + 1);
+            if (contains(candidate)) return candidate;
+        }
+        for (int i = 0; i < chars.length; i++) {
+            char original = chars[i];
+            for (char c : dictionary.alphabet) {
+                if (c == original) continue;
+                chars[i] = c;
+                String candidate = new String(chars);
+                if (contains(candidate)) return candidate;
+            }
+            chars[i] = original;
+        }
+        for (int i = 0; i <= chars.length; i++) {
+            for (char c : dictionary.alphabet) {
+                String candidate = word.substring(0, i) + c + word.substring(i);
+                if (contains(candidate)) return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether {@code language} is {@code expected} or one of its variants.
+     */
+    private static boolean matches(String expected, String language) {
+        if (language == null) return false;
+        int variant = language.indexOf('-');
+        return (variant < 0 ? language : language.substring(0, variant)).equalsIgnoreCase(expected);
+    }
+
+    private static void swap(char[] chars, int i, int j) {
+        char tmp = chars[i];
+        chars[i] = chars[j];
+        chars[j] = tmp;
+    }
+
+    private static String matchCase(String original, String suggestion) {
+        if (!Character.isUpperCase(original.charAt(0))) return suggestion;
+        return Character.toUpperCase(suggestion.charAt(0)) + suggestion.substring(1);
+    }
+
+    private static List<String> load(String location) {
+        List<String> words = new ArrayList<>();
+        if (location == null || location.isBlank()) return words;
+
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String word = line.strip();
+                if (!word.isEmpty() && !word.startsWith("#")) words.add(word.toLowerCase(Locale.ROOT));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fast-check dictionary " + location, e);
+        }
+        return words;
+    }
+
+    private record Rule(Pattern pattern, Function<MatchResult, String> replacement, String explanation,
+                        String ruleId, String categoryId, String language) {
+        void apply(String text, List<Correction> corrections) {
+            Matcher matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                corrections.add(Correction.builder()
+                        .original(matcher.group())
+                        .suggested(replacement.apply(matcher))
+                        .startOffset(matcher.start())
+                        .length(matcher.end() - matcher.start())
+                        .explanation(explanation)
+                        .ruleId(ruleId)
+                        .categoryId(categoryId)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Trie stored in parallel arrays (label, first child, next sibling) rather
+     * than one object per node. Also holds the ignored words of each account in
+     * {@link AccountPreferencesComponent}.
+     */
+    static final class Trie {
+        private char[] labels = new char[1024];
+        private int[] firstChild = new int[1024];
+        private int[] nextSibling = new int[1024];
+        private final BitSet terminal = new BitSet();
+        private int nodes = 1;
+        private int size;
+        private char[] alphabet = new char[0];
+
+        Trie() {
+            Arrays.fill(firstChild, -1);
+            Arrays.fill(nextSibling, -1);
+        }
+
+        void add(String word) {
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                int child = child(node, c);
+                if (child < 0) child = addChild(node, c);
+                node = child;
+            }
+            if (!terminal.get(node)) {
+                terminal.set(node);
+                size++;
+            }
+        }
+
+        boolean contains(String word) {
+            int node = 0;
+            for (int i = 0; i < word.length() && node >= 0; i++) {
+                node = child(node, word.charAt(i));
+            }
+            return node >= 0 && terminal.get(node);
+        }
+
+        private int child(int node, char c) {
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                if (labels[child] == c) return child;
+            }
+            return -1;
+        }
+
+        private int addChild(int parent, char c) {
+            if (nodes == labels.length) {
+                int capacity = labels.length * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                Arrays.fill(firstChild, nodes, capacity, -1);
+                Arrays.fill(nextSibling, nodes, capacity, -1);
+            }
+            int node = nodes++;
+            labels[node] = c;
+            nextSibling[node] = firstChild[parent];
+            firstChild[parent] = node;
+
+            if (Arrays.binarySearch(alphabet, c) < 0) {
+                alphabet = Arrays.copyOf(alphabet, alphabet.length + 1);
+                alphabet[alphabet.length - 1] = c;
+                Arrays.sort(alphabet);
+            }
+            return node;
+        }
+    }
+
+    private static final class BloomFilter {
+        private final BitSet bits;
+        private final int size;
+        private final int hashes;
+
+        private BloomFilter(int expected, double falsePositiveRate) {
+            this.size = Math.max(64, (int) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            this.hashes = Math.max(1, (int) Math.round((double) size / expected * Math.log(2)));
+            this.bits = new BitSet(size);
+        }
+
+        private void add(String value) {
+            int h1 = value.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < hashes; i++) bits.set(Math.floorMod(h1 + i * h2, size));
+        }
+
+        private boolean mightContain(String value) {
+            int h1 = value.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < hashes; i++) {
+                if (!bits.get(Math.floorMod(h1 + i * h2, size))) return false;
+            }
+            return true;
+        }
+
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h | 1;
+        }
+    }
+}
@@ -35,11 +35,21 @@ public class GlobalExceptionComponent {
         return buildErrorResponse(HttpStatus.CONFLICT, exception.getMessage());
     }
 
+    @ExceptionHandler(org.springframework.orm.ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(org.springframework.orm.ObjectOptimisticLockingFailureException exception) {
+        return buildErrorResponse(HttpStatus.CONFLICT, "The resource was modified concurrently");
+    }
+
     @ExceptionHandler(StorageException.class)
     public ResponseEntity<Map<String, Object>> handleStorageException(StorageException exception) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException exception) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage());
+    }
+
     @ExceptionHandler(org.springframework.security.access.AccessDeniedException.class)
     public ResponseEntity<Map<String, Object>> handleAccessDeniedException(org.springframework.security.access.AccessDeniedException exception) {
         return buildErrorResponse(HttpStatus.FORBIDDEN, exception.getMessage());
@@ -116,4 +126,10 @@ public class GlobalExceptionComponent {
             super(message);
         }
     }
+
+    public static class ServiceUnavailableException extends RuntimeException {
+        public ServiceUnavailableException(String message) {
+            super(message);
+        }
+    }
 }
@@ -10,11 +10,15 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
 public class JwtComponent {
 
+    // Set on narrow-purpose tokens (live session tickets), which are never accepted as bearer tokens
+    public static final String PURPOSE = "purpose";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -47,11 +51,18 @@ public class JwtComponent {
     }
 
     public boolean isTokenValid(String token) {
+        return parseClaims(token).filter(claims -> claims.get(PURPOSE) == null).isPresent();
+    }
+
+    public Optional<Claims> extractPurposeClaims(String token, String purpose) {
+        return parseClaims(token).filter(claims -> purpose.equals(claims.get(PURPOSE)));
+    }
+
+    private Optional<Claims> parseClaims(String token) {
         try {
-            extractAllClaims(token);
-            return true;
+            return Optional.of(extractAllClaims(token));
         } catch (ExpiredJwtException | SignatureException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException exception) {
-            return false;
+            return Optional.empty();
         }
     }
 
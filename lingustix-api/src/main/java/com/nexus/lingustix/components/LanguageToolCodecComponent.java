@@ -0,0 +1,236 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.LanguageToolComponent.DetectedLanguage;
+import com.nexus.lingustix.components.LanguageToolComponent.Match;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wire format of the LanguageTool HTTP API.
+ * <p>
+ * Request bodies are written as {@code application/x-www-form-urlencoded}
+ * straight to the connection, without building the encoded string in memory.
+ * Responses are read with a streaming parser that only materializes the fields
+ * used by evaluations and keeps at most {@code languagetool.response.max-replacements}
+ * suggestions per match; everything else (context, sentence, most rule details)
+ * is skipped.
+ */
+@Component
+public class LanguageToolCodecComponent {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+
+    private final JsonMapper jsonMapper;
+    private final int maxReplacements;
+
+    public LanguageToolCodecComponent(JsonMapper jsonMapper,
+                                      @Value("${languagetool.response.max-replacements:3}") int maxReplacements) {
+        this.jsonMapper = jsonMapper;
+        this.maxReplacements = maxReplacements;
+    }
+
+    public void writeForm(Map<String, String> fields, OutputStream out) throws IOException {
+        FormWriter writer = new FormWriter(out);
+        boolean first = true;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            if (!first) writer.raw('&');
+            writer.encode(field.getKey());
+            writer.raw('=');
+            writer.encode(field.getValue());
+            first = false;
+        }
+        writer.flush();
+    }
+
+    public Response readResponse(InputStream in) throws IOException {
+        try (JsonParser parser = jsonMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw new IOException("Unexpected LanguageTool response");
+
+            List<Match> matches = null;
+            DetectedLanguage language = null;
+            for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+                parser.nextToken();
+                switch (name) {
+                    case "matches" -> matches = readMatches(parser);
+                    case "language" -> language = readLanguage(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new Response(matches, language);
+        } catch (JacksonException e) {
+            throw new IOException("Malformed LanguageTool response", e);
+        }
+    }
+
+    private List<Match> readMatches(JsonParser parser) {
+        if (!parser.hasToken(JsonToken.START_ARRAY)) {
+            parser.skipChildren();
+            return null;
+        }
+        List<Match> matches = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            matches.add(readMatch(parser));
+        }
+        return matches;
+    }
+
+    private Match readMatch(JsonParser parser) {
+        int offset = 0;
+        int length = 0;
+        String message = null;
+        List<String> replacements = List.of();
+        String[] rule = new String[2];
+
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "offset" -> offset = parser.getIntValue();
+                case "length" -> length = parser.getIntValue();
+                case "message" -> message = parser.getString();
+                case "replacements" -> replacements = readReplacements(parser);
+                case "rule" -> readRule(parser, rule);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Match(offset, length, message, replacements, rule[0], rule[1]);
+    }
+
+    /**
+     * Reads {@code rule.id} and {@code rule.category.id} into {@code rule}.
+     */
+    private void readRule(JsonParser parser, String[] rule) {
+        if (!parser.hasToken(JsonToken.START_OBJECT)) {
+            parser.skipChildren();
+            return;
+        }
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            parser.nextToken();
+            if (name.equals("id") && parser.hasToken(JsonToken.VALUE_STRING)) {
+                rule[0] = parser.getString();
+            } else if (name.equals("category") && parser.hasToken(JsonToken.START_OBJECT)) {
+                for (String field = parser.nextName(); field != null; field = parser.nextName()) {
+                    parser.nextToken();
+                    if (field.equals("id") && parser.hasToken(JsonToken.VALUE_STRING)) rule[1] = parser.getString();
+                    else parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private List<String> readReplacements(JsonParser parser) {
+        if (!parser.hasToken(JsonToken.START_ARRAY)) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<String> replacements = new ArrayList<>(Math.min(maxReplacements, 4));
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (replacements.size() >= maxReplacements) {
+                parser.skipChildren();
+                continue;
+            }
+            for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+                parser.nextToken();
+                if (name.equals("value") && parser.hasToken(JsonToken.VALUE_STRING)) replacements.add(parser.getString());
+                else parser.skipChildren();
+            }
+        }
+        return replacements;
+    }
+
+    private DetectedLanguage readLanguage(JsonParser parser) {
+        if (!parser.hasToken(JsonToken.START_OBJECT)) {
+            parser.skipChildren();
+            return null;
+        }
+        String languageName = null;
+        String code = null;
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "name" -> languageName = parser.getString();
+                case "code" -> code = parser.getString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new DetectedLanguage(languageName, code);
+    }
+
+    /**
+     * Percent-encodes text into a fixed buffer the way HTML forms do: unreserved
+     * characters are copied, spaces become {@code +} and everything else is
+     * written as the {@code %XX} escapes of its UTF-8 bytes.
+     */
+    private static final class FormWriter {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        private FormWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        private void encode(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (isUnreserved(c)) {
+                    raw(c);
+                } else if (c == ' ') {
+                    raw('+');
+                } else if (c < 0x80) {
+                    escape(c);
+                } else if (c < 0x800) {
+                    escape(0xC0 | (c >> 6));
+                    escape(0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    escape(0xF0 | (codePoint >> 18));
+                    escape(0x80 | ((codePoint >> 12) & 0x3F));
+                    escape(0x80 | ((codePoint >> 6) & 0x3F));
+                    escape(0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    escape('?');
+                } else {
+                    escape(0xE0 | (c >> 12));
+                    escape(0x80 | ((c >> 6) & 0x3F));
+                    escape(0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private static boolean isUnreserved(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '*';
+        }
+
+        private void escape(int b) throws IOException {
+            raw('%');
+            raw(HEX[(b >> 4) & 0xF]);
+            raw(HEX[b & 0xF]);
+        }
+
+        private void raw(int b) throws IOException {
+            if (position == buffer.length) flush();
+            buffer[position++] = (byte) b;
+        }
+
+        private void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client for LanguageTool.
+ * <p>
+ * Checks run on the configured {@link LanguageToolEngine}: the HTTP backend pool
+ * of {@link LanguageToolPoolComponent} or the in-process {@code EmbeddedLanguageToolComponent}.
+ * The number of outstanding requests is bounded by an AIMD limit: it grows by
+ * roughly one per round of fast responses, and shrinks multiplicatively on slow
+ * responses and failures. Repeated failures open a circuit breaker so that
+ * callers fail fast with {@link ServiceUnavailableException} until a probe
+ * request succeeds.
+ * <p>
+ * Callers that find no free permit are queued. Interactive requests are always
+ * granted before background ones. Within a priority, requests are ordered by
+ * self-clocked weighted fair queuing per account, with the text length as the
+ * cost, so one account submitting very large texts cannot starve the others.
+ * Each priority has its own bound on how long a caller may wait.
+ */
+@Component
+public class LanguageToolComponent {
+
+    private static final double BACKOFF_RATIO = 0.75;
+    private static final UUID ANONYMOUS = new UUID(0, 0);
+
+    private final LanguageToolEngine engine;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long maxWaitNanos;
+    private final long backgroundMaxWaitNanos;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Timer requestTimer;
+    private final LanguageToolEngine.Permits extraPermits = new ExtraPermits();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Priority, FairQueue> queues = new EnumMap<>(Priority.class);
+    private long sequence;
+
+    // Written under the lock; volatile so the gauges can read them without it
+    private volatile double limit;
+    private volatile int inFlight;
+    private volatile int waiting;
+
+    private volatile CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing;
+
+    public LanguageToolComponent(MeterRegistry meterRegistry,
+                                 LanguageToolEngine engine,
+                                 @Value("${languagetool.limit.initial:8}") int initialLimit,
+                                 @Value("${languagetool.limit.min:1}") int minLimit,
+                                 @Value("${languagetool.limit.max:64}") int maxLimit,
+                                 @Value("${languagetool.limit.latency-threshold-ms:3000}") long latencyThresholdMs,
+                                 @Value("${languagetool.limit.max-wait-ms:5000}") long maxWaitMs,
+                                 @Value("${languagetool.limit.background-max-wait-ms:120000}") long backgroundMaxWaitMs,
+                                 @Value("${languagetool.circuit.failure-threshold:5}") int failureThreshold,
+                                 @Value("${languagetool.circuit.open-ms:10000}") long openMs) {
+        this.engine = engine;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.backgroundMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(backgroundMaxWaitMs);
+        for (Priority priority : Priority.values()) queues.put(priority, new FairQueue());
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+
+        this.requestTimer = Timer.builder("languagetool.requests").register(meterRegistry);
+        Gauge.builder("languagetool.concurrency.limit", this, component -> component.limit).register(meterRegistry);
+        Gauge.builder("languagetool.concurrency.in-flight", this, component -> component.inFlight).register(meterRegistry);
+        Gauge.builder("languagetool.queue.depth", this, component -> component.waiting).register(meterRegistry);
+        Gauge.builder("languagetool.circuit.open", this, component -> component.circuitState == CircuitState.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    public Response check(CheckRequest request) {
+        boolean probe = acquire(request);
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            Response response = engine.check(request, extraPermits);
+            outcome = Outcome.SUCCESS;
+            return response;
+        } catch (HttpClientErrorException | BadRequestException e) {
+            outcome = Outcome.REJECTED;
+            throw e;
+        } catch (RestClientException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                outcome = Outcome.CANCELLED;
+                throw e;
+            }
+            throw new ServiceUnavailableException("LanguageTool request failed");
+        } finally {
+            long latency = System.nanoTime() - start;
+            requestTimer.record(latency, TimeUnit.NANOSECONDS);
+            release(probe, outcome, latency);
+        }
+    }
+
+    /**
+     * Whether the active engine can check texts in {@code language}.
+     */
+    public boolean supports(String language) {
+        return engine.supports(language);
+    }
+
+    /**
+     * Waits for a permit under the current limit, in scheduler order. Returns
+     * {@code true} when the caller is the single probe allowed through a
+     * half-open circuit.
+     */
+    private boolean acquire(CheckRequest request) {
+        try {
+            lock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for LanguageTool", e);
+        }
+        try {
+            if (circuitState == CircuitState.OPEN) {
+                if (System.nanoTime() - openedAt < openNanos) {
+                    throw new ServiceUnavailableException("LanguageTool is unavailable");
+                }
+                circuitState = CircuitState.HALF_OPEN;
+            }
+            if (circuitState == CircuitState.HALF_OPEN) {
+                if (probing) throw new ServiceUnavailableException("LanguageTool is unavailable");
+                probing = true;
+                inFlight++;
+                return true;
+            }
+
+            if (waiting == 0 && inFlight < (int) limit) {
+                inFlight++;
+                return false;
+            }
+
+            Waiter waiter = new Waiter(request, lock.newCondition(), sequence++);
+            queues.get(waiter.priority).add(waiter);
+            waiting++;
+            try {
+                long remaining = waiter.priority == Priority.INTERACTIVE ? maxWaitNanos : backgroundMaxWaitNanos;
+                while (!waiter.granted) {
+                    if (circuitState != CircuitState.CLOSED) throw new ServiceUnavailableException("LanguageTool is unavailable");
+                    if (remaining <= 0) throw new ServiceUnavailableException("LanguageTool is overloaded");
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+                return false;
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    inFlight--;
+                    dispatch();
+                }
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for LanguageTool", e);
+            } finally {
+                if (!waiter.granted) {
+                    queues.get(waiter.priority).remove(waiter);
+                    waiting--;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands free permits to queued callers: interactive first, then background,
+     * each in fair-queue order. Must be called with the lock held.
+     */
+    private void dispatch() {
+        while (inFlight < (int) limit) {
+            Waiter next = queues.get(Priority.INTERACTIVE).poll();
+            if (next == null) next = queues.get(Priority.BACKGROUND).poll();
+            if (next == null) return;
+
+            next.granted = true;
+            inFlight++;
+            waiting--;
+            next.condition.signal();
+        }
+    }
+
+    private void release(boolean probe, Outcome outcome, long latency) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (probe) probing = false;
+
+            switch (outcome) {
+                case SUCCESS -> {
+                    consecutiveFailures = 0;
+                    if (probe) circuitState = CircuitState.CLOSED;
+                    limit = latency <= latencyThresholdNanos
+                            ? Math.min(maxLimit, limit + 1 / limit)
+                            : Math.max(minLimit, limit * BACKOFF_RATIO);
+                }
+                case FAILURE -> {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    if (probe || ++consecutiveFailures >= failureThreshold) {
+                        circuitState = CircuitState.OPEN;
+                        openedAt = System.nanoTime();
+                    }
+                }
+                case REJECTED -> {
+                    consecutiveFailures = 0;
+                    if (probe) circuitState = CircuitState.CLOSED;
+                }
+                case CANCELLED -> {
+                    if (probe) {
+                        circuitState = CircuitState.OPEN;
+                        openedAt = System.nanoTime();
+                    }
+                }
+            }
+            if (circuitState == CircuitState.CLOSED) {
+                dispatch();
+            } else {
+                queues.values().forEach(FairQueue::wakeAll);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Permits for the extra requests of an admitted check, such as hedges: only
+     * handed out when nobody is queued and the limit has room, and not counted
+     * as outcomes.
+     */
+    private final class ExtraPermits implements LanguageToolEngine.Permits {
+        @Override
+        public boolean tryAcquire() {
+            lock.lock();
+            try {
+                if (circuitState != CircuitState.CLOSED || waiting > 0 || inFlight >= (int) limit) return false;
+                inFlight++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void release() {
+            lock.lock();
+            try {
+                inFlight--;
+                if (circuitState == CircuitState.CLOSED) dispatch();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    public enum Priority { INTERACTIVE, BACKGROUND }
+
+    /**
+     * One LanguageTool check. {@code accountId} is the fair-share key; requests
+     * without an account share a single slot.
+     */
+    public record CheckRequest(String text, String language, UUID accountId, Priority priority,
+                               Set<String> disabledRules, Set<String> disabledCategories) {}
+
+    private static final class Waiter {
+        private final UUID accountId;
+        private final Priority priority;
+        private final long cost;
+        private final long sequence;
+        private final Condition condition;
+        private double finish;
+        private boolean granted;
+
+        private Waiter(CheckRequest request, Condition condition, long sequence) {
+            this.accountId = request.accountId() != null ? request.accountId() : ANONYMOUS;
+            this.priority = request.priority() != null ? request.priority() : Priority.INTERACTIVE;
+            this.cost = Math.max(1, request.text().length());
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+    }
+
+    /**
+     * Self-clocked fair queue: a request finishes, in virtual time, {@code cost}
+     * after the later of the current virtual time and its account's previous
+     * finish. Requests are served in order of virtual finish time.
+     */
+    private static final class FairQueue {
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+                Comparator.comparingDouble((Waiter waiter) -> waiter.finish).thenComparingLong(waiter -> waiter.sequence));
+        private final Map<UUID, Double> lastFinish = new HashMap<>();
+        private double virtualTime;
+
+        private void add(Waiter waiter) {
+            waiter.finish = Math.max(virtualTime, lastFinish.getOrDefault(waiter.accountId, 0.0)) + waiter.cost;
+            lastFinish.put(waiter.accountId, waiter.finish);
+            waiters.add(waiter);
+        }
+
+        private Waiter poll() {
+            Waiter waiter = waiters.poll();
+            if (waiter != null) {
+                virtualTime = waiter.finish;
+                lastFinish.values().removeIf(finish -> finish <= virtualTime);
+            }
+            return waiter;
+        }
+
+        private void remove(Waiter waiter) {
+            waiters.remove(waiter);
+        }
+
+        private void wakeAll() {
+            waiters.forEach(waiter -> waiter.condition.signal());
+        }
+    }
+
+    private enum Outcome { SUCCESS, FAILURE, REJECTED, CANCELLED }
+
+    /**
+     * LanguageTool response, reduced to what evaluations use (see {@link LanguageToolCodecComponent})
+     */
+    public record Response(List<Match> matches, DetectedLanguage language) {}
+    public record DetectedLanguage(String name, String code) {}
+    public record Match(int offset, int length, String message, List<String> replacements, String ruleId, String categoryId) {}
+}
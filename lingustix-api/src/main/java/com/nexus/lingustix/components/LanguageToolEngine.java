@@ -0,0 +1,41 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+
+/**
+ * Backend that runs a single LanguageTool check, selected by {@code languagetool.engine}:
+ * {@code http} (default) sends it to the LanguageTool servers of {@link LanguageToolPoolComponent},
+ * {@code embedded} runs it inside the API JVM with {@code EmbeddedLanguageToolComponent}, which is only
+ * built with the {@code embedded-languagetool} Maven profile.
+ * <p>
+ * Admission, fair queuing and the circuit breaker stay in {@link LanguageToolComponent}
+ * whichever engine is active.
+ */
+public interface LanguageToolEngine {
+
+    /**
+     * Checks the text of {@code request} in its language (a LanguageTool code or
+     * {@code auto}), leaving out the rules and categories it disables. Additional
+     * requests the engine sends for the same check must hold one of {@code permits}.
+     */
+    Response check(CheckRequest request, Permits permits);
+
+    /**
+     * Whether {@code language} is a code this engine can check, case-insensitively.
+     * Engines that cannot tell yet accept every code.
+     */
+    boolean supports(String language);
+
+    /**
+     * Admission for requests beyond the one the check was admitted for.
+     */
+    interface Permits {
+        /**
+         * Takes a permit if one is free right now, without queuing.
+         */
+        boolean tryAcquire();
+
+        void release();
+    }
+}
@@ -0,0 +1,329 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Default LanguageToolEngine: routes checks over the languagetool.url backends with P2C, ejection and optional hedging
+@Component
+@ConditionalOnProperty(name = "languagetool.engine", havingValue = "http", matchIfMissing = true)
+public class LanguageToolPoolComponent implements LanguageToolEngine {
+
+    private static final double EWMA_WEIGHT = 0.2;
+    private static final int LATENCY_WINDOW = 512;
+    private static final String AUTO_LANGUAGE = "auto";
+
+    private final RestClient restClient;
+    private final RestClient healthClient;
+    private final LanguageToolCodecComponent codecComponent;
+    private final List<Backend> backends;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter hedges;
+
+    private final int ejectionFailures;
+    private final double ejectionLatencyFactor;
+    private final long ejectionNanos;
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private volatile long hedgeDelayNanos;
+
+    public LanguageToolPoolComponent(MeterRegistry meterRegistry,
+                                     LanguageToolCodecComponent codecComponent,
+                                     @Value("${languagetool.url:http://localhost:8081/v2}") String[] urls,
+                                     @Value("${languagetool.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                     @Value("${languagetool.client.read-timeout-ms:15000}") long readTimeoutMs,
+                                     @Value("${languagetool.pool.ejection-failures:3}") int ejectionFailures,
+                                     @Value("${languagetool.pool.ejection-latency-factor:3.0}") double ejectionLatencyFactor,
+                                     @Value("${languagetool.pool.ejection-ms:30000}") long ejectionMs,
+                                     @Value("${languagetool.pool.hedge.enabled:false}") boolean hedgeEnabled,
+                                     @Value("${languagetool.pool.hedge.percentile:0.95}") double hedgePercentile) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        JdkClientHttpRequestFactory healthRequestFactory = new JdkClientHttpRequestFactory(httpClient);
+        healthRequestFactory.setReadTimeout(Duration.ofMillis(connectTimeoutMs));
+
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.healthClient = RestClient.builder().requestFactory(healthRequestFactory).build();
+        this.codecComponent = codecComponent;
+        this.backends = Arrays.stream(urls)
+                .map(String::strip)
+                .filter(url -> !url.isEmpty())
+                .map(Backend::new)
+                .toList();
+        if (backends.isEmpty()) throw new IllegalStateException("languagetool.url must list at least one backend");
+
+        this.ejectionFailures = ejectionFailures;
+        this.ejectionLatencyFactor = ejectionLatencyFactor;
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(ejectionMs);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgePercentile = hedgePercentile;
+
+        this.hedges = Counter.builder("languagetool.hedges").register(meterRegistry);
+        Gauge.builder("languagetool.backends.available", this, pool -> pool.available().size()).register(meterRegistry);
+    }
+
+    /**
+     * Sends a {@code /check} request. Throws {@link HttpClientErrorException}
+     * when LanguageTool rejects the request and another {@link RestClientException}
+     * when no backend answered.
+     */
+    @Override
+    public Response check(CheckRequest request, Permits permits) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("language", request.language());
+        form.put("text", request.text());
+        if (!request.disabledRules().isEmpty()) form.put("disabledRules", String.join(",", request.disabledRules()));
+        if (!request.disabledCategories().isEmpty()) form.put("disabledCategories", String.join(",", request.disabledCategories()));
+
+        Backend primary = choose(request.language(), null);
+        if (!hedgeEnabled || hedgeDelayNanos == 0 || backends.size() < 2) return send(primary, form);
+
+        ExecutorCompletionService<Response> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Response>> attempts = new ArrayList<>(2);
+        attempts.add(completion.submit(() -> send(primary, form)));
+        try {
+            Future<Response> done = completion.poll(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            if (done == null) {
+                Backend secondary = choose(request.language(), primary);
+                if (secondary != primary && permits.tryAcquire()) {
+                    attempts.add(completion.submit(() -> {
+                        try {
+                            return send(secondary, form);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                    hedges.increment();
+                }
+            }
+
+            RuntimeException failure = null;
+            for (int i = 0; i < attempts.size(); i++) {
+                Future<Response> attempt = i == 0 && done != null ? done : completion.take();
+                try {
+                    return attempt.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof HttpClientErrorException rejected) throw rejected;
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new ResourceAccessException("LanguageTool request failed");
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("LanguageTool request was interrupted");
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    @Override
+    public boolean supports(String language) {
+        return backends.stream().anyMatch(backend -> backend.supports(language));
+    }
+
+    private Response send(Backend backend, Map<String, String> form) {
+        backend.outstanding.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            Response response = restClient.post()
+                    .uri(backend.url + "/check")
+                    .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+                    .body(out -> codecComponent.writeForm(form, out))
+                    .exchange((httpRequest, httpResponse) -> {
+                        if (httpResponse.getStatusCode().isError()) throw httpResponse.createException();
+                        return codecComponent.readResponse(httpResponse.getBody());
+                    });
+            backend.succeeded(System.nanoTime() - start);
+            recordLatency(System.nanoTime() - start);
+            return response;
+        } catch (HttpClientErrorException e) {
+            backend.succeeded(System.nanoTime() - start);
+            throw e;
+        } catch (RestClientException e) {
+            if (!Thread.currentThread().isInterrupted() && backend.failed() >= ejectionFailures) {
+                backend.eject(System.nanoTime() + ejectionNanos);
+            }
+            throw e;
+        } finally {
+            backend.outstanding.decrementAndGet();
+        }
+    }
+
+    /**
+     * Power of two choices over the available backends that support
+     * {@code language}, never returning {@code excluded} unless it is the only
+     * candidate. Falls back to every supporting backend when all of them are
+     * ejected or unhealthy.
+     */
+    private Backend choose(String language, Backend excluded) {
+        List<Backend> supporting = backends.stream().filter(backend -> backend.supports(language)).toList();
+        if (supporting.isEmpty()) supporting = backends;
+        long now = System.nanoTime();
+        List<Backend> candidates = new ArrayList<>(supporting.stream().filter(backend -> backend.isAvailable(now)).toList());
+        if (candidates.isEmpty()) candidates.addAll(supporting);
+        if (candidates.size() > 1) candidates.remove(excluded);
+        if (candidates.size() == 1) return candidates.getFirst();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) second++;
+
+        Backend a = candidates.get(first);
+        Backend b = candidates.get(second);
+        return a.outstanding.get() <= b.outstanding.get() ? a : b;
+    }
+
+    private List<Backend> available() {
+        long now = System.nanoTime();
+        return backends.stream().filter(backend -> backend.isAvailable(now)).toList();
+    }
+
+    private synchronized void recordLatency(long latency) {
+        latencies[latencyCount++ % LATENCY_WINDOW] = latency;
+    }
+
+    /**
+     * Probes every backend, ejects backends much slower than the pool median and
+     * refreshes the hedging delay from the recent latency percentile.
+     */
+    @Scheduled(fixedDelayString = "${languagetool.pool.health-interval-ms:10000}")
+    public void checkHealth() {
+        List<Future<?>> probes = new ArrayList<>(backends.size());
+        backends.forEach(backend -> probes.add(executor.submit(() -> probe(backend))));
+        for (Future<?> probe : probes) {
+            try {
+                probe.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ignored) {
+                // probe() records the outcome itself.
+            }
+        }
+
+        long now = System.nanoTime();
+        List<Backend> available = available();
+        if (available.size() > 1) {
+            double[] averages = available.stream().mapToDouble(backend -> backend.averageLatency).sorted().toArray();
+            double median = averages[averages.length / 2];
+            available.stream()
+                    .filter(backend -> median > 0 && backend.averageLatency > median * ejectionLatencyFactor)
+                    .limit(available.size() - 1)
+                    .forEach(backend -> {
+                        backend.eject(now + ejectionNanos);
+                        backend.averageLatency = median;
+                    });
+        }
+
+        if (hedgeEnabled) hedgeDelayNanos = latencyPercentile(hedgePercentile);
+    }
+
+    private void probe(Backend backend) {
+        try {
+            LanguageInfo[] supported = healthClient.get().uri(backend.url + "/languages").retrieve().body(LanguageInfo[].class);
+            backend.healthy = true;
+            if (supported != null) {
+                backend.languages = Arrays.stream(supported)
+                        .flatMap(info -> Stream.of(info.code(), info.longCode()))
+                        .filter(Objects::nonNull)
+                        .map(code -> code.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+        } catch (RestClientException e) {
+            backend.healthy = false;
+        }
+    }
+
+    private synchronized long latencyPercentile(double percentile) {
+        int count = Math.min(latencyCount, LATENCY_WINDOW);
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+    }
+
+    private record LanguageInfo(String name, String code, String longCode) {}
+
+    private static final class Backend {
+        private final String url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile boolean healthy = true;
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+        private volatile double averageLatency;
+        private volatile Set<String> languages = Set.of();
+
+        private Backend(String url) {
+            this.url = url;
+        }
+
+        // Until the first health check answers, a backend is assumed to support every language
+        private boolean supports(String language) {
+            Set<String> known = languages;
+            return known.isEmpty() || AUTO_LANGUAGE.equals(language) || known.contains(language.toLowerCase(Locale.ROOT));
+        }
+
+        private boolean isAvailable(long now) {
+            return healthy && (!ejected || now - ejectedUntil >= 0);
+        }
+
+        private void succeeded(long latency) {
+            consecutiveFailures.set(0);
+            double average = averageLatency;
+            averageLatency = average == 0 ? latency : average + EWMA_WEIGHT * (latency - average);
+        }
+
+        private int failed() {
+            return consecutiveFailures.incrementAndGet();
+        }
+
+        private void eject(long until) {
+            ejectedUntil = until;
+            ejected = true;
+            consecutiveFailures.set(0);
+        }
+    }
+}
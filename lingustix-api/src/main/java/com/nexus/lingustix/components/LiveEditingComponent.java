@@ -0,0 +1,396 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ResourceNotFoundException;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.requests.LiveEditMessage;
+import com.nexus.lingustix.models.requests.TextOperation;
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
+import com.nexus.lingustix.models.responses.LiveEditEvent;
+import com.nexus.lingustix.services.CompositionService;
+import com.nexus.lingustix.services.EvaluationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Holds the live document per open composition; edits are versioned, relayed, checked and flushed as patches
+@Component
+@RequiredArgsConstructor
+public class LiveEditingComponent extends TextWebSocketHandler {
+
+    public static final String COMPOSITION_ID = "compositionId";
+    public static final String ACCOUNT_ID = "accountId";
+    public static final String BINARY = "binary";
+
+    private static final String ENCODER = "correctionEncoder";
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT = 512 * 1024;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final CompositionService compositionService;
+    private final EvaluationService evaluationService;
+    private final CorrectionDeltaComponent correctionDeltaComponent;
+    private final CorrectionCodecComponent correctionCodecComponent;
+    private final JsonMapper jsonMapper;
+
+    private final ConcurrentHashMap<UUID, LiveDocument> documents = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService evaluationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.live.evaluation-delay-ms:3000}")
+    private long evaluationDelayMs;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        UUID compositionId = (UUID) session.getAttributes().get(COMPOSITION_ID);
+        UUID accountId = (UUID) session.getAttributes().get(ACCOUNT_ID);
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT);
+        if (Boolean.TRUE.equals(session.getAttributes().get(BINARY))) {
+            session.getAttributes().put(ENCODER, correctionCodecComponent.encoder());
+        }
+
+        LiveDocument document = join(compositionId, accountId, session.getId(), concurrentSession);
+
+        String content;
+        long version;
+        synchronized (document) {
+            content = document.content;
+            version = document.version;
+            send(concurrentSession, LiveEditEvent.snapshot(version, content));
+            if (document.corrections != null) {
+                send(concurrentSession, LiveEditEvent.corrections(version,
+                        CorrectionDelta.full(document.correctionsVersion, document.corrections)));
+            }
+        }
+        send(concurrentSession, LiveEditEvent.quickCorrections(version, evaluationService.quick(document.accountId, document.language, content)));
+        scheduleEvaluation(document, 0);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        LiveDocument document = documents.get((UUID) session.getAttributes().get(COMPOSITION_ID));
+        if (document == null) return;
+        WebSocketSession sender = document.sessions.getOrDefault(session.getId(), session);
+
+        LiveEditMessage edit;
+        try {
+            edit = jsonMapper.readValue(message.getPayload(), LiveEditMessage.class);
+        } catch (JacksonException e) {
+            send(sender, LiveEditEvent.error("Malformed message"));
+            return;
+        }
+
+        switch (edit.type() == null ? "" : edit.type()) {
+            case "edit" -> applyEdit(document, sender, edit);
+            case "evaluate" -> scheduleEvaluation(document, 0);
+            default -> send(sender, LiveEditEvent.error("Unknown message type"));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        UUID compositionId = (UUID) session.getAttributes().get(COMPOSITION_ID);
+        LiveDocument document = documents.get(compositionId);
+        if (document == null) return;
+
+        document.sessions.remove(session.getId());
+        if (!document.sessions.isEmpty()) return;
+
+        synchronized (document) {
+            if (document.pendingEvaluation != null) document.pendingEvaluation.cancel(false);
+        }
+        // Flush while the document is still registered, so that a reconnect joins it instead of loading stale content.
+        flush(document);
+        release(document);
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.flush-interval-ms:5000}")
+    public void flushAll() {
+        documents.values().forEach(document -> {
+            flush(document);
+            if (document.sessions.isEmpty()) release(document);
+        });
+    }
+
+    public boolean isOpen(UUID compositionId) {
+        return documents.containsKey(compositionId);
+    }
+
+    private LiveDocument join(UUID compositionId, UUID accountId, String sessionId, WebSocketSession session) {
+        while (true) {
+            LiveDocument document = documents.get(compositionId);
+            if (document == null) {
+                // Loaded outside the map so that a slow read does not block other compositions in the same bin.
+                LiveDocument loaded = load(compositionId, accountId);
+                document = documents.putIfAbsent(compositionId, loaded);
+                if (document == null) document = loaded;
+            }
+            LiveDocument candidate = document;
+            LiveDocument joined = documents.computeIfPresent(compositionId, (id, live) -> {
+                if (live == candidate) live.sessions.put(sessionId, session);
+                return live;
+            });
+            // Retry if the document was released between the lookup and the join.
+            if (joined == candidate) return candidate;
+        }
+    }
+
+    /**
+     * Unregisters a document nobody has open anymore, unless it still holds
+     * changes that could not be saved.
+     */
+    private void release(LiveDocument document) {
+        documents.computeIfPresent(document.compositionId, (id, live) -> {
+            if (live != document || !live.sessions.isEmpty()) return live;
+            synchronized (live) {
+                return live.dirty ? live : null;
+            }
+        });
+    }
+
+    private LiveDocument load(UUID compositionId, UUID accountId) {
+        Composition composition = compositionService.getByIdWithContent(compositionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Composition not found", "composition"));
+        return new LiveDocument(compositionId, accountId, language(composition), composition.getContent(), composition.getContentVersion());
+    }
+
+    private static String language(Composition composition) {
+        return composition.getLanguageOverride() != null ? composition.getLanguageOverride() : composition.getDetectedLanguage();
+    }
+
+    private void applyEdit(LiveDocument document, WebSocketSession sender, LiveEditMessage edit) {
+        List<TextOperation> operations = edit.operations() == null ? List.of() : edit.operations();
+        long version;
+        String content;
+
+        synchronized (document) {
+            if (edit.baseVersion() == null || edit.baseVersion() != document.version) {
+                send(sender, LiveEditEvent.error("Edit is based on a stale version"));
+                send(sender, LiveEditEvent.snapshot(document.version, document.content));
+                return;
+            }
+            try {
+                document.content = TextOperation.apply(document.content, operations);
+            } catch (BadRequestException e) {
+                send(sender, LiveEditEvent.error(e.getMessage()));
+                return;
+            }
+            version = ++document.version;
+            content = document.content;
+            document.dirty = true;
+        }
+
+        send(sender, LiveEditEvent.ack(version));
+        LiveEditEvent relayed = LiveEditEvent.edit(version, operations);
+        document.sessions.values().stream()
+                .filter(session -> session != sender)
+                .forEach(session -> send(session, relayed));
+
+        broadcast(document, LiveEditEvent.quickCorrections(version, evaluationService.quick(document.accountId, document.language, content)));
+        scheduleEvaluation(document, evaluationDelayMs);
+    }
+
+    private void scheduleEvaluation(LiveDocument document, long delayMs) {
+        synchronized (document) {
+            if (document.pendingEvaluation != null) document.pendingEvaluation.cancel(false);
+            document.pendingEvaluation = scheduler.schedule(
+                    () -> evaluationExecutor.execute(() -> evaluate(document)), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void evaluate(LiveDocument document) {
+        String content;
+        long version;
+        synchronized (document) {
+            content = document.content;
+            version = document.version;
+        }
+
+        try {
+            List<Correction> corrections = evaluationService.create(document.compositionId, content);
+            String correctionsVersion = correctionDeltaComponent.version(corrections);
+            synchronized (document) {
+                CorrectionDelta delta = document.corrections == null
+                        ? CorrectionDelta.full(correctionsVersion, corrections)
+                        : correctionDeltaComponent.diff(document.correctionsVersion, document.corrections, correctionsVersion, corrections);
+                document.corrections = corrections;
+                document.correctionsVersion = correctionsVersion;
+                broadcast(document, LiveEditEvent.corrections(version, delta));
+            }
+        } catch (ConflictException ignored) {
+            // Superseded by the evaluation of a newer version.
+        } catch (RuntimeException e) {
+            broadcast(document, LiveEditEvent.error("Evaluation failed"));
+        }
+    }
+
+    private void flush(LiveDocument document) {
+        // One flush per document at a time, or two could patch against the same content version.
+        synchronized (document.flushLock) {
+            for (int attempt = 1; ; attempt++) {
+                String content;
+                String savedContent;
+                long contentVersion;
+                synchronized (document) {
+                    if (!document.dirty) return;
+                    content = document.content;
+                    savedContent = document.savedContent;
+                    contentVersion = document.contentVersion;
+                    document.dirty = false;
+                }
+
+                try {
+                    Composition saved = compositionService.patchContent(
+                            document.compositionId, contentVersion, TextOperation.diff(savedContent, content));
+                    synchronized (document) {
+                        document.savedContent = content;
+                        document.contentVersion = saved.getContentVersion();
+                    }
+                    return;
+                } catch (ConflictException e) {
+                    // Still dirty after a rebase: retried right away, then by the next scheduled flush.
+                    if (!rebase(document) || attempt == MAX_FLUSH_ATTEMPTS) return;
+                } catch (ResourceNotFoundException e) {
+                    discard(document);
+                    return;
+                } catch (RuntimeException e) {
+                    synchronized (document) {
+                        document.dirty = true;
+                    }
+                    broadcast(document, LiveEditEvent.error("Saving failed"));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the unsaved edits onto the stored content after it was changed
+     * elsewhere, such as by another node. When both changed the same region the
+     * stored content wins and the unsaved text is sent back in a conflict event.
+     * Returns whether there is something left to save.
+     */
+    private boolean rebase(LiveDocument document) {
+        Composition composition;
+        try {
+            composition = compositionService.getByIdWithContent(document.compositionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Composition not found", "composition"));
+        } catch (ResourceNotFoundException e) {
+            discard(document);
+            return false;
+        }
+
+        String stored = composition.getContent();
+        boolean dirty;
+        synchronized (document) {
+            String merged = TextOperation.merge(document.savedContent, document.content, stored);
+            String unsaved = merged == null ? document.content : null;
+            if (merged == null) merged = stored;
+
+            document.savedContent = stored;
+            document.contentVersion = composition.getContentVersion();
+            document.language = language(composition);
+            document.content = merged;
+            document.dirty = dirty = !merged.equals(stored);
+            long version = ++document.version;
+            if (unsaved != null) {
+                broadcast(document, LiveEditEvent.conflict(version, unsaved,
+                        "The composition was changed elsewhere in the same place; your unsaved text is attached"));
+            }
+            broadcast(document, LiveEditEvent.snapshot(version, merged));
+        }
+        scheduleEvaluation(document, 0);
+        return dirty;
+    }
+
+    /**
+     * Drops a document whose composition no longer exists and closes its sessions.
+     */
+    private void discard(LiveDocument document) {
+        documents.remove(document.compositionId, document);
+        synchronized (document) {
+            document.dirty = false;
+            if (document.pendingEvaluation != null) document.pendingEvaluation.cancel(false);
+        }
+        broadcast(document, LiveEditEvent.error("The composition no longer exists"));
+        document.sessions.values().forEach(session -> {
+            try {
+                session.close(CloseStatus.GOING_AWAY);
+            } catch (IOException ignored) {
+                // Already closing.
+            }
+        });
+    }
+
+    private void broadcast(LiveDocument document, LiveEditEvent event) {
+        document.sessions.values().forEach(session -> send(session, event));
+    }
+
+    private void send(WebSocketSession session, LiveEditEvent event) {
+        if (!session.isOpen()) return;
+        try {
+            CorrectionCodecComponent.Encoder encoder = (CorrectionCodecComponent.Encoder) session.getAttributes().get(ENCODER);
+            if (encoder == null || (event.corrections() == null && event.delta() == null)) {
+                session.sendMessage(new TextMessage(jsonMapper.writeValueAsString(event)));
+                return;
+            }
+            // The string table is shared by all frames of the session, so encoding and sending must not interleave.
+            synchronized (encoder) {
+                byte[] frame = event.delta() != null
+                        ? encoder.encodeCorrections(event.version(), event.delta())
+                        : encoder.encodeQuickCorrections(event.version(), event.corrections());
+                session.sendMessage(new BinaryMessage(frame));
+            }
+        } catch (IOException | IllegalStateException ignored) {
+            // The session is closing; afterConnectionClosed cleans it up.
+        }
+    }
+
+    private static final class LiveDocument {
+        private final UUID compositionId;
+        private final UUID accountId;
+        private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+        private final Object flushLock = new Object();
+        private volatile String language;
+        private String content;
+        private String savedContent;
+        private long contentVersion;
+        private long version;
+        private boolean dirty;
+        private ScheduledFuture<?> pendingEvaluation;
+        private List<Correction> corrections;
+        private String correctionsVersion;
+
+        private LiveDocument(UUID compositionId, UUID accountId, String language, String content, long contentVersion) {
+            this.compositionId = compositionId;
+            this.accountId = accountId;
+            this.language = language;
+            this.content = content;
+            this.savedContent = content;
+            this.contentVersion = contentVersion;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.services.AuthService;
+import com.nexus.lingustix.services.CompositionService;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// Authenticates a live session once, with a bearer token or a single-use ticket for the composition in the path
+@Component
+@RequiredArgsConstructor
+public class LiveHandshakeComponent implements HandshakeInterceptor {
+
+    private final JwtComponent jwtComponent;
+    private final JwtAuthComponent jwtAuthComponent;
+    private final LiveTicketComponent liveTicketComponent;
+    private final AuthService authService;
+    private final CompositionService compositionService;
+
+    @Override
+    public boolean beforeHandshake(@NonNull ServerHttpRequest request,
+                                   @NonNull ServerHttpResponse response,
+                                   @NonNull WebSocketHandler wsHandler,
+                                   @NonNull Map<String, Object> attributes) {
+
+        MultiValueMap<String, String> queryParams = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams();
+        UUID compositionId;
+        try {
+            String path = request.getURI().getPath();
+            compositionId = UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+        } catch (IllegalArgumentException e) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        Optional<UUID> accountId = jwtAuthComponent.extractTokenFromHeader(request.getHeaders().getFirst("Authorization"))
+                .filter(authService::validateToken)
+                .map(token -> UUID.fromString(jwtComponent.extractSubject(token)))
+                .or(() -> Optional.ofNullable(queryParams.getFirst("ticket"))
+                        .flatMap(liveTicketComponent::redeem)
+                        .filter(ticket -> ticket.compositionId().equals(compositionId))
+                        .map(LiveTicketComponent.Ticket::accountId));
+
+        if (accountId.isEmpty()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        if (!compositionService.verifyOwnership(compositionId, accountId.get())) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        attributes.put(LiveEditingComponent.ACCOUNT_ID, accountId.get());
+        attributes.put(LiveEditingComponent.COMPOSITION_ID, compositionId);
+        attributes.put(LiveEditingComponent.BINARY, "binary".equals(queryParams.getFirst("format")));
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(@NonNull ServerHttpRequest request,
+                               @NonNull ServerHttpResponse response,
+                               @NonNull WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+}
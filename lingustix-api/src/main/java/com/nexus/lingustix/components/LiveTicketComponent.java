@@ -0,0 +1,64 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.entities.RevokedToken;
+import com.nexus.lingustix.repositories.RevokedTokenRepository;
+import com.nexus.lingustix.services.AuthService.TokenWithExpiry;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived, single-use tickets that open a live editing session for one
+ * composition. Browsers cannot set headers on WebSocket requests, and a ticket
+ * in the query string is harmless once redeemed, unlike the account's JWT.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveTicketComponent {
+
+    private static final String PURPOSE = "live";
+    private static final String COMPOSITION_ID = "compositionId";
+
+    private final JwtComponent jwtComponent;
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${app.live.ticket-expiration-ms:30000}")
+    private long expirationMs;
+
+    public TokenWithExpiry issue(UUID accountId, UUID compositionId) {
+        Map<String, Object> claims = Map.of(JwtComponent.PURPOSE, PURPOSE, COMPOSITION_ID, compositionId.toString());
+        String ticket = jwtComponent.createToken(claims, accountId.toString(), expirationMs);
+        return new TokenWithExpiry(ticket, LocalDateTime.now().plus(expirationMs, ChronoUnit.MILLIS));
+    }
+
+    // Redeeming revokes the ticket; the unique token column lets only one node win a concurrent redemption.
+    public Optional<Ticket> redeem(String ticket) {
+        Optional<Claims> claims = jwtComponent.extractPurposeClaims(ticket, PURPOSE);
+        if (claims.isEmpty() || revokedTokenRepository.existsByToken(ticket)) return Optional.empty();
+
+        try {
+            LocalDateTime expiryDate = LocalDateTime.ofInstant(claims.get().getExpiration().toInstant(), ZoneId.systemDefault());
+            revokedTokenRepository.saveAndFlush(new RevokedToken(ticket, expiryDate));
+        } catch (DataIntegrityViolationException e) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Ticket(UUID.fromString(claims.get().getSubject()),
+                    UUID.fromString(String.valueOf(claims.get().get(COMPOSITION_ID)))));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public record Ticket(UUID accountId, UUID compositionId) {}
+}
@@ -0,0 +1,49 @@
+package com.nexus.lingustix.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexus.lingustix.models.responses.Correction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Shared, bounded cache of LanguageTool results per sentence. Entries are keyed
+ * by a fingerprint of the trimmed sentence and the requested language, and hold
+ * corrections whose offsets are relative to the start of the sentence.
+ */
+@Component
+public class SentenceCacheComponent {
+
+    private final TextSegmentComponent textSegmentComponent;
+    private final Cache<String, List<Correction>> cache;
+
+    public SentenceCacheComponent(TextSegmentComponent textSegmentComponent,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${languagetool.cache.maximum-size:100000}") long maximumSize,
+                                  @Value("${languagetool.cache.expire-after-access-ms:21600000}") long expireAfterAccessMs) {
+        this.textSegmentComponent = textSegmentComponent;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "languagetool.sentences");
+    }
+
+    public List<Correction> get(String sentence, String language) {
+        return cache.getIfPresent(key(sentence, language));
+    }
+
+    public void put(String sentence, String language, List<Correction> corrections) {
+        cache.put(key(sentence, language), List.copyOf(corrections));
+    }
+
+    private String key(String sentence, String language) {
+        return language + ':' + textSegmentComponent.fingerprint(sentence);
+    }
+}
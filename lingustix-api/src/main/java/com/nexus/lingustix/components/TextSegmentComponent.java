@@ -0,0 +1,143 @@
+package com.nexus.lingustix.components;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits composition content into segments that can be checked and cached
+ * independently. Every segment is an exact, trimmed substring of the source
+ * text, so offsets reported against a segment can be rebased onto the
+ * document by adding {@link Segment#offset()}.
+ */
+@Component
+public class TextSegmentComponent {
+
+    public List<Segment> paragraphs(String text) {
+        List<Segment> segments = new ArrayList<>();
+        if (text == null || text.isEmpty()) return segments;
+
+        int start = 0;
+        for (int end = text.indexOf('\n'); end >= 0; start = end + 1, end = text.indexOf('\n', start)) {
+            addTrimmed(segments, text, start, end);
+        }
+        addTrimmed(segments, text, start, text.length());
+        return segments;
+    }
+
+    public List<Segment> sentences(Segment paragraph) {
+        return sentences(paragraph.text()).stream()
+                .map(sentence -> new Segment(paragraph.offset() + sentence.offset(), sentence.text()))
+                .toList();
+    }
+
+    public List<Segment> sentences(String text) {
+        List<Segment> segments = new ArrayList<>();
+        if (text == null || text.isEmpty()) return segments;
+
+        BreakIterator iterator = BreakIterator.getSentenceInstance(Locale.ROOT);
+        iterator.setText(text);
+
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            addTrimmed(segments, text, start, end);
+        }
+        return segments;
+    }
+
+    /**
+     * Number of whitespace-separated words.
+     */
+    public int wordCount(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) words++;
+            inWord = !whitespace;
+        }
+        return words;
+    }
+
+    /**
+     * Start of the text on a single line, cut at a word boundary and marked
+     * with an ellipsis when longer than {@code maxLength}.
+     */
+    public String excerpt(String text, int maxLength) {
+        String line = text.strip().replaceAll("\\s+", " ");
+        if (line.length() <= maxLength) return line;
+
+        int end = line.lastIndexOf(' ', maxLength);
+        if (end <= 0) end = Character.isLowSurrogate(line.charAt(maxLength)) ? maxLength - 1 : maxLength;
+        return line.substring(0, end) + "\u2026";
+    }
+
+    /**
+     * 64-bit SimHash of the lowercased words, weighted by how often they occur.
+     * Texts sharing most of their words differ in few bits, so
+     * {@code Long.bitCount(a ^ b)} measures how much the wording changed.
+     */
+    public long sketch(String text) {
+        int[] weights = new int[Long.SIZE];
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetter(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                long hash = wordHash(text, start, i);
+                for (int bit = 0; bit < Long.SIZE; bit++) weights[bit] += (hash >>> bit & 1) != 0 ? 1 : -1;
+                start = -1;
+            }
+        }
+
+        long sketch = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) sketch |= 1L << bit;
+        }
+        return sketch;
+    }
+
+    public String fingerprint(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * FNV-1a over the lowercased characters, finished with the SplitMix64 mixer
+     * so that every bit depends on the whole word.
+     */
+    private static long wordHash(String text, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= Character.toLowerCase(text.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private void addTrimmed(List<Segment> segments, String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (start < end) segments.add(new Segment(start, text.substring(start, end)));
+    }
+
+    public record Segment(int offset, String text) {
+        public int end() {
+            return offset + text.length();
+        }
+    }
+}
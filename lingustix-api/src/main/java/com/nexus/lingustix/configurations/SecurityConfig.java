@@ -1,6 +1,7 @@
 package com.nexus.lingustix.configurations;
 
 import com.nexus.lingustix.components.JwtAuthComponent;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.springframework.context.annotation.Bean;
@@ -47,8 +48,13 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests(auth -> auth
+                        // Streaming responses complete on an async dispatch that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        // Metrics expose JVM, pool and LanguageTool internals and need a login
+                        .requestMatchers("/actuator/health/**", "/actuator/health").permitAll()
+                        // The live editing handshake authenticates the token itself
+                        .requestMatchers("/ws/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/accounts").permitAll()
                         .requestMatchers("/", "/index.html", "/css/**", "/js/**", "/images/**", "/assets/**").permitAll()
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
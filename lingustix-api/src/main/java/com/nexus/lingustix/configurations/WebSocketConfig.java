@@ -0,0 +1,39 @@
+package com.nexus.lingustix.configurations;
+
+import com.nexus.lingustix.components.LiveEditingComponent;
+import com.nexus.lingustix.components.LiveHandshakeComponent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final LiveEditingComponent liveEditingComponent;
+    private final LiveHandshakeComponent liveHandshakeComponent;
+
+    @Value("${app.web.allowed-origins:http://localhost:3000}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(liveEditingComponent, "/ws/compositions/*")
+                .addInterceptors(liveHandshakeComponent)
+                .setAllowedOrigins(allowedOrigins);
+    }
+
+    // Large pastes arrive as a single insert operation
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(512 * 1024);
+        return container;
+    }
+}
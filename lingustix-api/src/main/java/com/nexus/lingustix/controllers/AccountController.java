@@ -2,6 +2,7 @@ package com.nexus.lingustix.controllers;
 
 import com.nexus.lingustix.models.entities.Account;
 import com.nexus.lingustix.models.requests.*;
+import com.nexus.lingustix.models.responses.AccountPreferencesResponse;
 import com.nexus.lingustix.models.responses.AccountResponse;
 import com.nexus.lingustix.services.AccountService;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +48,28 @@ public class AccountController {
         ));
     }
 
+    @GetMapping("/preferences")
+    public ResponseEntity<AccountPreferencesResponse> getPreferences() {
+        return ResponseEntity.ok(AccountPreferencesResponse.from(
+                accountService.getPreferences(accountService.getAuthenticatedAccountId())
+        ));
+    }
+
+    @PutMapping("/preferences")
+    public ResponseEntity<AccountPreferencesResponse> updatePreferences(@Valid @RequestBody AccountUpdatePreferencesRequest request) {
+        return ResponseEntity.ok(AccountPreferencesResponse.from(
+                accountService.updatePreferences(accountService.getAuthenticatedAccountId(),
+                        request.ignoredWords(), request.disabledRules(), request.disabledCategories())
+        ));
+    }
+
+    @PostMapping("/preferences/ignored-words")
+    public ResponseEntity<AccountPreferencesResponse> addIgnoredWord(@Valid @RequestBody AccountIgnoreWordRequest request) {
+        return ResponseEntity.ok(AccountPreferencesResponse.from(
+                accountService.addIgnoredWord(accountService.getAuthenticatedAccountId(), request.word())
+        ));
+    }
+
     @DeleteMapping
     public ResponseEntity<Void> delete() {
         accountService.delete(accountService.getAuthenticatedAccountId());
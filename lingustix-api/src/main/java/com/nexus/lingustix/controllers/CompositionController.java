@@ -1,12 +1,26 @@
 package com.nexus.lingustix.controllers;
 
 import com.nexus.lingustix.components.GlobalExceptionComponent;
+import com.nexus.lingustix.components.LiveEditingComponent;
+import com.nexus.lingustix.components.LiveTicketComponent;
 import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.requests.CompositionApplyCorrectionsRequest;
 import com.nexus.lingustix.models.requests.CompositionCreateRequest;
+import com.nexus.lingustix.models.requests.CompositionPatchContentRequest;
 import com.nexus.lingustix.models.requests.CompositionUpdateContentRequest;
+import com.nexus.lingustix.models.requests.CompositionUpdateLanguageRequest;
 import com.nexus.lingustix.models.requests.CompositionUpdateTitleRequest;
+import com.nexus.lingustix.models.entities.CompositionRevision;
 import com.nexus.lingustix.models.responses.CompositionResponse;
+import com.nexus.lingustix.models.responses.CompositionRevisionContentResponse;
+import com.nexus.lingustix.models.responses.CompositionRevisionResponse;
+import com.nexus.lingustix.models.responses.CompositionSummaryResponse;
+import com.nexus.lingustix.models.responses.CursorPage;
+import com.nexus.lingustix.models.responses.LiveTicketResponse;
+import com.nexus.lingustix.models.responses.CompositionVersionResponse;
 import com.nexus.lingustix.services.AccountService;
+import com.nexus.lingustix.services.AuthService;
+import com.nexus.lingustix.services.CompositionRevisionService;
 import com.nexus.lingustix.services.CompositionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -26,6 +40,9 @@ public class CompositionController {
 
     private final CompositionService compositionService;
     private final AccountService accountService;
+    private final CompositionRevisionService compositionRevisionService;
+    private final LiveEditingComponent liveEditingComponent;
+    private final LiveTicketComponent liveTicketComponent;
 
     @PostMapping
     public ResponseEntity<CompositionResponse> create(@Valid @RequestBody CompositionCreateRequest request) {
@@ -46,10 +63,37 @@ public class CompositionController {
     public ResponseEntity<CompositionResponse> updateContent(@PathVariable UUID id, @Valid @RequestBody CompositionUpdateContentRequest request) {
         if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
             throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to update this composition.");
+        verifyNotLive(id);
 
         return ResponseEntity.ok(CompositionResponse.from(compositionService.updateContent(id, request.content())));
     }
 
+    @PostMapping("/{id}/content/patch")
+    public ResponseEntity<CompositionVersionResponse> patchContent(@PathVariable UUID id, @Valid @RequestBody CompositionPatchContentRequest request) {
+        if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to update this composition.");
+        verifyNotLive(id);
+
+        return ResponseEntity.ok(CompositionVersionResponse.from(compositionService.patchContent(id, request.baseVersion(), request.operations())));
+    }
+
+    @PostMapping("/{id}/corrections/apply")
+    public ResponseEntity<CompositionResponse> applyCorrections(@PathVariable UUID id, @Valid @RequestBody CompositionApplyCorrectionsRequest request) {
+        if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to update this composition.");
+        verifyNotLive(id);
+
+        return ResponseEntity.ok(CompositionResponse.from(compositionService.applyCorrections(id, request.version(), request.corrections())));
+    }
+
+    @PatchMapping("/{id}/language")
+    public ResponseEntity<CompositionResponse> updateLanguage(@PathVariable UUID id, @Valid @RequestBody CompositionUpdateLanguageRequest request) {
+        if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to update this composition.");
+
+        return ResponseEntity.ok(CompositionResponse.from(compositionService.updateLanguage(id, request.language())));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
@@ -64,15 +108,55 @@ public class CompositionController {
         if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
             throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to access this composition.");
 
-        return compositionService.getById(id)
+        return compositionService.getByIdWithContent(id)
                 .map(CompositionResponse::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/revisions")
+    public ResponseEntity<Page<CompositionRevisionResponse>> getRevisions(@PathVariable UUID id, @PageableDefault(size = 20) Pageable pageable) {
+        if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to access this composition.");
+
+        return ResponseEntity.ok(compositionRevisionService.getByComposition(id, pageable).map(CompositionRevisionResponse::from));
+    }
+
+    @GetMapping("/{id}/revisions/{version}")
+    public ResponseEntity<CompositionRevisionContentResponse> getRevision(@PathVariable UUID id, @PathVariable long version) {
+        if (!compositionService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to access this composition.");
+
+        CompositionRevision revision = compositionRevisionService.getByVersion(id, version);
+        return ResponseEntity.ok(CompositionRevisionContentResponse.from(revision, compositionRevisionService.getContent(revision)));
+    }
+
+    @PostMapping("/{id}/live-ticket")
+    public ResponseEntity<LiveTicketResponse> createLiveTicket(@PathVariable UUID id) {
+        UUID accountId = accountService.getAuthenticatedAccountId();
+        if (!compositionService.verifyOwnership(id, accountId))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to edit this composition.");
+
+        AuthService.TokenWithExpiry ticket = liveTicketComponent.issue(accountId, id);
+        return ResponseEntity.ok(new LiveTicketResponse(ticket.token(), ticket.expirationDate()));
+    }
+
     @GetMapping("/ids")
     public ResponseEntity<Page<UUID>> getAllIds(@PageableDefault(size = 20) Pageable pageable) {
         UUID ownerId = accountService.getAuthenticatedAccountId();
         return ResponseEntity.ok(compositionService.getIdsByOwner(ownerId, pageable));
     }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<CursorPage<CompositionSummaryResponse>> getSummaries(@RequestParam(required = false) String cursor,
+                                                                               @RequestParam(defaultValue = "20") int size) {
+        UUID ownerId = accountService.getAuthenticatedAccountId();
+        return ResponseEntity.ok(compositionService.getSummariesByOwner(ownerId, cursor, Math.clamp(size, 1, 100)).map(CompositionSummaryResponse::from));
+    }
+
+    // The live document would overwrite this write on its next flush.
+    private void verifyNotLive(UUID id) {
+        if (liveEditingComponent.isOpen(id))
+            throw new GlobalExceptionComponent.ConflictException("The composition is open for live editing");
+    }
 }
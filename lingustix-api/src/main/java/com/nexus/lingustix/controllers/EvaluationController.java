@@ -1,19 +1,28 @@
 package com.nexus.lingustix.controllers;
 
+import com.nexus.lingustix.components.CorrectionCodecComponent;
 import com.nexus.lingustix.components.GlobalExceptionComponent;
 import com.nexus.lingustix.models.requests.EvaluationCreateRequest;
+import com.nexus.lingustix.models.requests.EvaluationDeltaRequest;
 import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
 import com.nexus.lingustix.services.AccountService;
 import com.nexus.lingustix.services.CompositionService;
 import com.nexus.lingustix.services.EvaluationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 @RestController
 @RequestMapping("/evaluations")
@@ -24,7 +33,11 @@ public class EvaluationController {
     private final CompositionService compositionService;
     private final AccountService accountService;
 
-    @PostMapping
+    @Value("${app.evaluation.stream-timeout-ms:60000}")
+    private long streamTimeoutMs;
+
+    // JSON, or the CorrectionCodecComponent encoding when Accept asks for it; likewise /quick and GET
+    @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE, CorrectionCodecComponent.MEDIA_TYPE})
     public ResponseEntity<List<Correction>> create(@Valid @RequestBody EvaluationCreateRequest request) {
         if (!compositionService.verifyOwnership(request.compositionId(), accountService.getAuthenticatedAccountId()))
             throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to evaluate this composition.");
@@ -32,4 +45,68 @@ public class EvaluationController {
         List<Correction> created = evaluationService.create(request.compositionId());
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
+
+    @PostMapping("/delta")
+    public ResponseEntity<CorrectionDelta> createDelta(@Valid @RequestBody EvaluationDeltaRequest request) {
+        if (!compositionService.verifyOwnership(request.compositionId(), accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to evaluate this composition.");
+
+        return ResponseEntity.ok(evaluationService.createDelta(request.compositionId(), request.baseVersion()));
+    }
+
+    @PostMapping(value = "/quick", produces = {MediaType.APPLICATION_JSON_VALUE, CorrectionCodecComponent.MEDIA_TYPE})
+    public ResponseEntity<List<Correction>> quick(@Valid @RequestBody EvaluationCreateRequest request) {
+        if (!compositionService.verifyOwnership(request.compositionId(), accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to evaluate this composition.");
+
+        return ResponseEntity.ok(evaluationService.quick(request.compositionId()));
+    }
+
+    @GetMapping(value = "/{compositionId}", produces = {MediaType.APPLICATION_JSON_VALUE, CorrectionCodecComponent.MEDIA_TYPE})
+    public ResponseEntity<List<Correction>> getByCompositionId(@PathVariable UUID compositionId) {
+        if (!compositionService.verifyOwnership(compositionId, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to access this composition.");
+
+        return evaluationService.getByCompositionId(compositionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{compositionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable UUID compositionId) {
+        if (!compositionService.verifyOwnership(compositionId, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to evaluate this composition.");
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Future<?> evaluation = evaluationService.stream(compositionId, new EvaluationService.EvaluationListener() {
+            @Override
+            public void onCorrections(List<Correction> corrections) {
+                send(emitter, SseEmitter.event().name("corrections").data(corrections));
+            }
+
+            @Override
+            public void onComplete(int total) {
+                send(emitter, SseEmitter.event().name("complete").data(total));
+                emitter.complete();
+            }
+
+            @Override
+            public void onError(Exception exception) {
+                emitter.completeWithError(exception);
+            }
+        });
+
+        emitter.onCompletion(() -> evaluation.cancel(true));
+        emitter.onTimeout(() -> evaluation.cancel(true));
+        emitter.onError(error -> evaluation.cancel(true));
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.nexus.lingustix.controllers;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent;
+import com.nexus.lingustix.models.entities.EvaluationJob;
+import com.nexus.lingustix.models.requests.EvaluationJobCreateRequest;
+import com.nexus.lingustix.models.responses.EvaluationJobResponse;
+import com.nexus.lingustix.services.AccountService;
+import com.nexus.lingustix.services.EvaluationJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/evaluations/jobs")
+@RequiredArgsConstructor
+public class EvaluationJobController {
+
+    private final EvaluationJobService evaluationJobService;
+    private final AccountService accountService;
+
+    @PostMapping
+    public ResponseEntity<EvaluationJobResponse> create(@Valid @RequestBody EvaluationJobCreateRequest request) {
+        EvaluationJob job = evaluationJobService.create(accountService.getAuthenticatedAccountId(), request.compositionIds());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(EvaluationJobResponse.from(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EvaluationJobResponse> getById(@PathVariable UUID id) {
+        if (!evaluationJobService.verifyOwnership(id, accountService.getAuthenticatedAccountId()))
+            throw new GlobalExceptionComponent.UnauthorizedException("You do not have permission to access this job.");
+
+        return evaluationJobService.getById(id)
+                .map(job -> ResponseEntity.ok(EvaluationJobResponse.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,12 +1,10 @@
 package com.nexus.lingustix.controllers;
 
+import com.nexus.lingustix.models.responses.CursorPage;
 import com.nexus.lingustix.models.searches.CompositionIndex;
 import com.nexus.lingustix.services.AccountService;
 import com.nexus.lingustix.services.SearchService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -22,9 +20,10 @@ public class SearchController {
     private  final AccountService accountService;
 
     @GetMapping("/compositions")
-    public ResponseEntity<Page<CompositionIndex>> searchCompositions(@RequestParam String query,
-                                                                     @PageableDefault(size = 20) Pageable pageable) {
+    public ResponseEntity<CursorPage<CompositionIndex>> searchCompositions(@RequestParam String query,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
         UUID ownerId = accountService.getAuthenticatedAccountId();
-        return ResponseEntity.ok(searchService.searchCompositions(query, ownerId, pageable));
+        return ResponseEntity.ok(searchService.searchCompositions(query, ownerId, cursor, Math.clamp(size, 1, 100)));
     }
 }
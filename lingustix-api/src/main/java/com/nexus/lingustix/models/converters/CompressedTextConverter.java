@@ -0,0 +1,69 @@
+package com.nexus.lingustix.models.converters;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores text as UTF-8 behind a format byte: raw below
+ * {@value #COMPRESSION_THRESHOLD} bytes, where compression gains little, and
+ * gzip-compressed above it.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    public static final int COMPRESSION_THRESHOLD = 1024;
+
+    private static final int RAW = 0;
+    private static final int GZIP = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) return null;
+
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (utf8.length < COMPRESSION_THRESHOLD) {
+            bytes.write(RAW);
+            bytes.writeBytes(utf8);
+            return bytes.toByteArray();
+        }
+
+        bytes.write(GZIP);
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(utf8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        if (data == null) return null;
+
+        try {
+            if (data.length == 0) throw new IOException("Missing text format");
+            return switch (data[0]) {
+                case RAW -> new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+                case GZIP -> {
+                    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data, 1, data.length - 1))) {
+                        yield new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                    }
+                }
+                default -> throw new IOException("Unsupported text format " + data[0]);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
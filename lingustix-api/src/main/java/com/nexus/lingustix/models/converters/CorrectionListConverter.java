@@ -0,0 +1,94 @@
+package com.nexus.lingustix.models.converters;
+
+import com.nexus.lingustix.models.responses.Correction;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores a list of corrections as a gzip-compressed binary record stream:
+ * a format version byte, the number of corrections, then the fields of each
+ * correction in declaration order. Explanations repeat a lot across a document
+ * and compress well. Version 1 records predate rule and category ids.
+ */
+@Converter
+public class CorrectionListConverter implements AttributeConverter<List<Correction>, byte[]> {
+
+    private static final int FORMAT_VERSION = 2;
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<Correction> corrections) {
+        if (corrections == null) return null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(corrections.size());
+            for (Correction correction : corrections) {
+                writeString(out, correction.original());
+                writeString(out, correction.suggested());
+                out.writeInt(correction.startOffset());
+                out.writeInt(correction.length());
+                writeString(out, correction.explanation());
+                writeString(out, correction.ruleId());
+                writeString(out, correction.categoryId());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public List<Correction> convertToEntityAttribute(byte[] data) {
+        if (data == null) return null;
+
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            int version = in.readByte();
+            if (version < 1 || version > FORMAT_VERSION) throw new IOException("Unsupported corrections format " + version);
+
+            int size = in.readInt();
+            List<Correction> corrections = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                corrections.add(Correction.builder()
+                        .original(readString(in))
+                        .suggested(readString(in))
+                        .startOffset(in.readInt())
+                        .length(in.readInt())
+                        .explanation(readString(in))
+                        .ruleId(version >= 2 ? readString(in) : null)
+                        .categoryId(version >= 2 ? readString(in) : null)
+                        .build());
+            }
+            return corrections;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
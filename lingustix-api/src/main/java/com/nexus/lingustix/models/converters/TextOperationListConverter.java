@@ -0,0 +1,84 @@
+package com.nexus.lingustix.models.converters;
+
+import com.nexus.lingustix.models.requests.TextOperation;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores a list of text operations as a binary record stream: a format version
+ * byte, the number of operations, then a kind byte per operation followed by
+ * its length (retain, delete) or UTF-8 text (insert). Deltas are a few
+ * operations long and are not compressed.
+ */
+@Converter
+public class TextOperationListConverter implements AttributeConverter<List<TextOperation>, byte[]> {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int RETAIN = 0;
+    private static final int INSERT = 1;
+    private static final int DELETE = 2;
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<TextOperation> operations) {
+        if (operations == null) return null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(operations.size());
+            for (TextOperation operation : operations) {
+                if (operation.retain() != null) {
+                    out.writeByte(RETAIN);
+                    out.writeInt(operation.retain());
+                } else if (operation.insert() != null) {
+                    byte[] text = operation.insert().getBytes(StandardCharsets.UTF_8);
+                    out.writeByte(INSERT);
+                    out.writeInt(text.length);
+                    out.write(text);
+                } else {
+                    out.writeByte(DELETE);
+                    out.writeInt(operation.delete());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public List<TextOperation> convertToEntityAttribute(byte[] data) {
+        if (data == null) return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readByte();
+            if (version != FORMAT_VERSION) throw new IOException("Unsupported text operations format " + version);
+
+            int size = in.readInt();
+            List<TextOperation> operations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int kind = in.readByte();
+                operations.add(switch (kind) {
+                    case RETAIN -> new TextOperation(in.readInt(), null, null);
+                    case INSERT -> new TextOperation(null, new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8), null);
+                    case DELETE -> new TextOperation(null, null, in.readInt());
+                    default -> throw new IOException("Unknown text operation " + kind);
+                });
+            }
+            return operations;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
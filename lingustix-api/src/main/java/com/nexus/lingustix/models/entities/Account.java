@@ -2,9 +2,14 @@ package com.nexus.lingustix.models.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -35,6 +40,28 @@ public class Account {
     @Builder.Default
     private List<Composition> compositions = new ArrayList<>();
 
+    // Stored lowercase
+    @ElementCollection
+    @CollectionTable(name = "account_ignored_words", joinColumns = @JoinColumn(name = "account_id"))
+    @Column(name = "word", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Builder.Default
+    private Set<String> ignoredWords = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "account_disabled_rules", joinColumns = @JoinColumn(name = "account_id"))
+    @Column(name = "rule_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Builder.Default
+    private Set<String> disabledRules = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "account_disabled_categories", joinColumns = @JoinColumn(name = "account_id"))
+    @Column(name = "category_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Builder.Default
+    private Set<String> disabledCategories = new HashSet<>();
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
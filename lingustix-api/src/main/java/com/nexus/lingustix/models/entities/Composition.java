@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_composition_account_last_updated_id", columnList = "account_id, last_updated, id"))
 @EntityListeners(CompositionListener.class)
 @Getter
 @Setter
@@ -15,6 +16,8 @@ import java.util.UUID;
 @Builder
 public class Composition {
 
+    public static final int EXCERPT_LENGTH = 160;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -22,17 +25,44 @@ public class Composition {
     @Column(nullable = false)
     private String title;
 
-    @Lob
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // Lives in CompositionBody; only set when the current request loaded or wrote it
+    @Transient
     private String content;
 
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(length = EXCERPT_LENGTH + 1)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id")
     private Account owner;
 
+    // Detected language with the content length and word sketch it was detected at
+    @Column(name = "detected_language", length = 16)
+    private String detectedLanguage;
+
+    @Column(name = "detected_language_length")
+    private Integer detectedLanguageLength;
+
+    @Column(name = "detected_language_sketch")
+    private Long detectedLanguageSketch;
+
+    @Column(name = "language_override", length = 16)
+    private String languageOverride;
+
     @Column(name = "last_updated")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // Base of content patches; unlike version, title and language changes leave it alone
+    @Column(name = "content_version", nullable = false, columnDefinition = "bigint default 0")
+    private long contentVersion;
+
     @PrePersist
     @PreUpdate
     protected void onUpdate() {
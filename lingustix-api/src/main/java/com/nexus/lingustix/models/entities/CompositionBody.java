@@ -0,0 +1,37 @@
+package com.nexus.lingustix.models.entities;
+
+import com.nexus.lingustix.models.converters.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * Content of a composition, kept apart from {@link Composition} so that loading
+ * a composition does not read it. Shares the id of its composition.
+ */
+@Entity
+@Table(name = "composition_body")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompositionBody {
+
+    @Id
+    @Column(name = "composition_id")
+    private UUID id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "composition_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Composition composition;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "bytea")
+    private String content;
+}
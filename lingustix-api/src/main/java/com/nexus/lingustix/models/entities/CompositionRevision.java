@@ -0,0 +1,77 @@
+package com.nexus.lingustix.models.entities;
+
+import com.nexus.lingustix.models.converters.CompressedTextConverter;
+import com.nexus.lingustix.models.converters.TextOperationListConverter;
+import com.nexus.lingustix.models.requests.TextOperation;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Content of a composition at one of its versions. A snapshot stores the whole
+ * content, compressed; every other revision stores the operations turning the
+ * previous revision into this one. {@code baseVersion} is the version of the
+ * snapshot the revision is replayed from, so a revision is rebuilt from the
+ * revisions between that snapshot and itself.
+ */
+@Entity
+@Table(
+        name = "composition_revision",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"composition_id", "version"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompositionRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "composition_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Composition composition;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "base_version", nullable = false)
+    private long baseVersion;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "bytea")
+    private String content;
+
+    @Convert(converter = TextOperationListConverter.class)
+    @Column(columnDefinition = "bytea")
+    private List<TextOperation> operations;
+
+    /**
+     * Length and SHA-256 digest of the content at this revision, to notice
+     * content changes that were not recorded before appending a delta.
+     */
+    @Column(nullable = false)
+    private int length;
+
+    @Column(length = 43)
+    private String digest;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,53 @@
+package com.nexus.lingustix.models.entities;
+
+import com.nexus.lingustix.models.converters.CorrectionListConverter;
+import com.nexus.lingustix.models.responses.Correction;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Evaluation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "composition_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Composition composition;
+
+    @Column(name = "content_hash", nullable = false)
+    private String contentHash;
+
+    /**
+     * Language the corrections were produced for: the pinned or overridden
+     * language, or the one detected during this evaluation.
+     */
+    @Column(length = 16)
+    private String language;
+
+    @Convert(converter = CorrectionListConverter.class)
+    @Column(nullable = false, columnDefinition = "bytea")
+    private List<Correction> corrections;
+
+    @Column(name = "evaluated_at")
+    private LocalDateTime evaluatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.evaluatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nexus.lingustix.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "account_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Account owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @ElementCollection
+    @CollectionTable(name = "evaluation_job_compositions", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "composition_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Builder.Default
+    private List<UUID> compositionIds = new ArrayList<>();
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int completed;
+
+    @Column(nullable = false)
+    private int failed;
+
+    /**
+     * API node running the job, and when it last confirmed that it still does.
+     * Unfinished jobs whose heartbeat is older than the claim timeout are taken
+     * over by another node.
+     */
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_updated")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,8 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record AccountIgnoreWordRequest(
+        @NotBlank @Size(max = 100) String word
+) {}
@@ -0,0 +1,14 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+// Replaces all preferences; a null set is treated as empty
+public record AccountUpdatePreferencesRequest(
+        @Size(max = 10000) Set<@NotBlank @Size(max = 100) String> ignoredWords,
+        @Size(max = 500) Set<@Pattern(regexp = "[A-Za-z0-9_]{1,100}") String> disabledRules,
+        @Size(max = 100) Set<@Pattern(regexp = "[A-Za-z0-9_]{1,100}") String> disabledCategories
+) {}
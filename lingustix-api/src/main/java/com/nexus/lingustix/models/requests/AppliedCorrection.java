@@ -0,0 +1,44 @@
+package com.nexus.lingustix.models.requests;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public record AppliedCorrection(
+        @NotNull @PositiveOrZero Integer startOffset,
+        @NotNull @PositiveOrZero Integer length,
+        @NotNull String replacement,
+        String original
+) {
+    // Applied from the end backwards, so earlier offsets never need rebasing
+    public static String apply(String base, List<AppliedCorrection> corrections) {
+        List<AppliedCorrection> ordered = new ArrayList<>(corrections);
+        ordered.sort(Comparator.comparingInt(AppliedCorrection::startOffset));
+
+        int previousEnd = 0;
+        for (AppliedCorrection correction : ordered) {
+            if (correction.startOffset() < 0 || correction.length() < 0
+                    || correction.startOffset() > base.length() || correction.length() > base.length() - correction.startOffset())
+                throw new BadRequestException("Correction goes past the end of the document");
+            int end = correction.startOffset() + correction.length();
+            if (correction.startOffset() < previousEnd)
+                throw new BadRequestException("Corrections overlap");
+            if (correction.original() != null && (correction.original().length() != correction.length()
+                    || !base.regionMatches(correction.startOffset(), correction.original(), 0, correction.length())))
+                throw new ConflictException("The composition changed since these corrections were computed");
+            previousEnd = end;
+        }
+
+        StringBuilder result = new StringBuilder(base);
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            AppliedCorrection correction = ordered.get(i);
+            result.replace(correction.startOffset(), correction.startOffset() + correction.length(), correction.replacement());
+        }
+        return result.toString();
+    }
+}
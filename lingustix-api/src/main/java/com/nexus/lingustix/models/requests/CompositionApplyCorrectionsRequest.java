@@ -0,0 +1,12 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CompositionApplyCorrectionsRequest(
+        Long version,
+        @NotEmpty @Size(max = 5000) List<@Valid AppliedCorrection> corrections
+) {}
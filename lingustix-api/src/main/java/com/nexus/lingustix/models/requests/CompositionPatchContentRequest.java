@@ -0,0 +1,13 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CompositionPatchContentRequest(
+        @NotNull Long baseVersion,
+        @NotEmpty @Size(max = 5000) List<@Valid TextOperation> operations
+) {}
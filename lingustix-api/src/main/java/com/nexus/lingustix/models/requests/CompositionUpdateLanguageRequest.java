@@ -0,0 +1,8 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.constraints.Pattern;
+
+// null removes the override and falls back to detection
+public record CompositionUpdateLanguageRequest(
+        @Pattern(regexp = "[a-zA-Z]{2,3}(-[a-zA-Z0-9]{2,8}){0,2}") String language
+) {}
@@ -0,0 +1,11 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+// baseVersion is the correction-set version the client holds; omit it for the full set
+public record EvaluationDeltaRequest(
+        @NotNull UUID compositionId,
+        String baseVersion
+) {}
@@ -0,0 +1,14 @@
+package com.nexus.lingustix.models.requests;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compositions to evaluate in the background. An empty or missing list selects
+ * every composition of the authenticated account.
+ */
+public record EvaluationJobCreateRequest(
+        @Size(max = 1000) List<UUID> compositionIds
+) {}
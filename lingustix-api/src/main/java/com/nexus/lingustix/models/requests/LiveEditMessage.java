@@ -0,0 +1,9 @@
+package com.nexus.lingustix.models.requests;
+
+import java.util.List;
+
+public record LiveEditMessage(
+        String type,
+        Long baseVersion,
+        List<TextOperation> operations
+) {}
@@ -0,0 +1,90 @@
+package com.nexus.lingustix.models.requests;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record TextOperation(
+        @PositiveOrZero Integer retain,
+        String insert,
+        @PositiveOrZero Integer delete
+) {
+    // Retains the common prefix and suffix and replaces whatever lies between
+    public static List<TextOperation> diff(String from, String to) {
+        int[] region = changedRegion(from, to);
+        int prefix = region[0];
+        int suffix = region[1];
+
+        List<TextOperation> operations = new ArrayList<>(3);
+        if (prefix > 0) operations.add(new TextOperation(prefix, null, null));
+        int deleted = from.length() - prefix - suffix;
+        if (deleted > 0) operations.add(new TextOperation(null, null, deleted));
+        if (to.length() - prefix - suffix > 0)
+            operations.add(new TextOperation(null, to.substring(prefix, to.length() - suffix), null));
+        return operations;
+    }
+
+    // Three-way merge of two edits of base, or null when both changed the same region
+    public static String merge(String base, String ours, String theirs) {
+        if (ours.equals(base)) return theirs;
+        if (theirs.equals(base) || theirs.equals(ours)) return ours;
+
+        int[] our = changedRegion(base, ours);
+        int[] their = changedRegion(base, theirs);
+        int ourEnd = base.length() - our[1];
+        int theirEnd = base.length() - their[1];
+        String replacement = ours.substring(our[0], ours.length() - our[1]);
+
+        if (ourEnd <= their[0]) {
+            return theirs.substring(0, our[0]) + replacement + theirs.substring(ourEnd);
+        }
+        if (theirEnd <= our[0]) {
+            int shift = theirs.length() - base.length();
+            return theirs.substring(0, our[0] + shift) + replacement + theirs.substring(ourEnd + shift);
+        }
+        return null;
+    }
+
+    // Lengths of the common prefix and suffix, never splitting a surrogate pair
+    private static int[] changedRegion(String from, String to) {
+        int limit = Math.min(from.length(), to.length());
+        int prefix = 0;
+        while (prefix < limit && from.charAt(prefix) == to.charAt(prefix)) prefix++;
+        int suffix = 0;
+        while (suffix < limit - prefix
+                && from.charAt(from.length() - 1 - suffix) == to.charAt(to.length() - 1 - suffix)) suffix++;
+        if (prefix > 0 && Character.isHighSurrogate(from.charAt(prefix - 1))) prefix--;
+        if (suffix > 0 && Character.isLowSurrogate(from.charAt(from.length() - suffix))) suffix--;
+        return new int[]{prefix, suffix};
+    }
+
+    // Applied left to right from the start of the document; whatever follows the last operation is retained
+    public static String apply(String base, List<TextOperation> operations) {
+        StringBuilder result = new StringBuilder(base.length());
+        int cursor = 0;
+
+        for (TextOperation operation : operations) {
+            int fields = (operation.retain() != null ? 1 : 0) + (operation.insert() != null ? 1 : 0) + (operation.delete() != null ? 1 : 0);
+            if (fields != 1)
+                throw new BadRequestException("Text operation must set exactly one of retain, insert or delete");
+
+            if (operation.retain() != null) {
+                if (operation.retain() < 0 || operation.retain() > base.length() - cursor)
+                    throw new BadRequestException("Retain goes past the end of the document");
+                int end = cursor + operation.retain();
+                result.append(base, cursor, end);
+                cursor = end;
+            } else if (operation.insert() != null) {
+                result.append(operation.insert());
+            } else {
+                if (operation.delete() < 0 || operation.delete() > base.length() - cursor)
+                    throw new BadRequestException("Delete goes past the end of the document");
+                cursor += operation.delete();
+            }
+        }
+
+        return result.append(base, cursor, base.length()).toString();
+    }
+}
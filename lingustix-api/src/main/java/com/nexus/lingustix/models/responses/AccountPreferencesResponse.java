@@ -0,0 +1,18 @@
+package com.nexus.lingustix.models.responses;
+
+import com.nexus.lingustix.models.entities.Account;
+
+import java.util.Set;
+
+public record AccountPreferencesResponse(
+        Set<String> ignoredWords,
+        Set<String> disabledRules,
+        Set<String> disabledCategories
+) {
+    public static AccountPreferencesResponse from(Account account) {
+        return new AccountPreferencesResponse(
+                Set.copyOf(account.getIgnoredWords()),
+                Set.copyOf(account.getDisabledRules()),
+                Set.copyOf(account.getDisabledCategories()));
+    }
+}
@@ -8,14 +8,22 @@ public record CompositionResponse(
         UUID id,
         String title,
         String content,
-        UUID ownerId
+        UUID ownerId,
+        String language,
+        boolean languageOverridden,
+        long version,
+        long contentVersion
 ) {
     public static CompositionResponse from(Composition composition) {
         return new CompositionResponse(
                 composition.getId(),
                 composition.getTitle(),
                 composition.getContent(),
-                composition.getOwner() != null ? composition.getOwner().getId() : null
+                composition.getOwner() != null ? composition.getOwner().getId() : null,
+                composition.getLanguageOverride() != null ? composition.getLanguageOverride() : composition.getDetectedLanguage(),
+                composition.getLanguageOverride() != null,
+                composition.getVersion(),
+                composition.getContentVersion()
         );
     }
 }
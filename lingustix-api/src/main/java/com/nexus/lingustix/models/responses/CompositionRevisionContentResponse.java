@@ -0,0 +1,22 @@
+package com.nexus.lingustix.models.responses;
+
+import com.nexus.lingustix.models.entities.CompositionRevision;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CompositionRevisionContentResponse(
+        UUID compositionId,
+        long version,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static CompositionRevisionContentResponse from(CompositionRevision revision, String content) {
+        return new CompositionRevisionContentResponse(
+                revision.getComposition().getId(),
+                revision.getVersion(),
+                content,
+                revision.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.nexus.lingustix.models.responses;
+
+import com.nexus.lingustix.repositories.CompositionRevisionRepository;
+
+import java.time.LocalDateTime;
+
+public record CompositionRevisionResponse(
+        long version,
+        int length,
+        boolean snapshot,
+        LocalDateTime createdAt
+) {
+    public static CompositionRevisionResponse from(CompositionRevisionRepository.Summary summary) {
+        return new CompositionRevisionResponse(
+                summary.getVersion(),
+                summary.getLength(),
+                summary.isSnapshot(),
+                summary.getCreatedAt()
+        );
+    }
+}
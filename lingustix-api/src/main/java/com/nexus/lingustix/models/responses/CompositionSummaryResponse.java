@@ -0,0 +1,24 @@
+package com.nexus.lingustix.models.responses;
+
+import com.nexus.lingustix.repositories.CompositionRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CompositionSummaryResponse(
+        UUID id,
+        String title,
+        LocalDateTime updatedAt,
+        Integer wordCount,
+        String excerpt
+) {
+    public static CompositionSummaryResponse from(CompositionRepository.Summary summary) {
+        return new CompositionSummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getUpdatedAt(),
+                summary.getWordCount(),
+                summary.getExcerpt()
+        );
+    }
+}
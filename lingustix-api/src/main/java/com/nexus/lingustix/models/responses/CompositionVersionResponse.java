@@ -0,0 +1,25 @@
+package com.nexus.lingustix.models.responses;
+
+import com.nexus.lingustix.models.entities.Composition;
+
+import java.util.UUID;
+
+/**
+ * Acknowledges a content patch without echoing the content back: the new
+ * content version is the base of the next patch.
+ */
+public record CompositionVersionResponse(
+        UUID id,
+        long version,
+        long contentVersion,
+        int length
+) {
+    public static CompositionVersionResponse from(Composition composition) {
+        return new CompositionVersionResponse(
+                composition.getId(),
+                composition.getVersion(),
+                composition.getContentVersion(),
+                composition.getContent() != null ? composition.getContent().length() : 0
+        );
+    }
+}
@@ -8,5 +8,11 @@ public record Correction (
         String suggested,
         int startOffset,
         int length,
-        String explanation
-){};
+        String explanation,
+        String ruleId,
+        String categoryId
+){
+    public Correction shift(int delta) {
+        return delta == 0 ? this : new Correction(original, suggested, startOffset + delta, length, explanation, ruleId, categoryId);
+    }
+};
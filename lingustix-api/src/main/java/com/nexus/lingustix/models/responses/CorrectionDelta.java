@@ -0,0 +1,32 @@
+package com.nexus.lingustix.models.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Corrections of an evaluation relative to a correction set the client already
+ * holds ({@code baseVersion}). To apply it, drop the base corrections listed in
+ * {@code removed}, move the ones covered by {@code shifts}, add {@code added}
+ * and order by offset. Indices refer to the base list in its offset order.
+ * When the base is unknown to the server, {@code baseVersion} is absent and
+ * {@code corrections} carries the full set instead.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CorrectionDelta(
+        String version,
+        String baseVersion,
+        List<Correction> corrections,
+        List<Integer> removed,
+        List<Shift> shifts,
+        List<Correction> added
+) {
+    public static CorrectionDelta full(String version, List<Correction> corrections) {
+        return new CorrectionDelta(version, null, corrections, null, null, null);
+    }
+
+    /**
+     * Base corrections with indices in {@code [from, to)} moved by {@code delta} characters.
+     */
+    public record Shift(int from, int to, int delta) {}
+}
@@ -0,0 +1,17 @@
+package com.nexus.lingustix.models.responses;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset-paginated listing. {@code nextCursor} fetches the
+ * following page and is {@code null} on the last one.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor
+) {
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
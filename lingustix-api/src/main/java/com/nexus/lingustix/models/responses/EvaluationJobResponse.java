@@ -0,0 +1,28 @@
+package com.nexus.lingustix.models.responses;
+
+import com.nexus.lingustix.models.entities.EvaluationJob;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record EvaluationJobResponse(
+        UUID id,
+        EvaluationJob.Status status,
+        int total,
+        int completed,
+        int failed,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static EvaluationJobResponse from(EvaluationJob job) {
+        return new EvaluationJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getTotal(),
+                job.getCompleted(),
+                job.getFailed(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+}
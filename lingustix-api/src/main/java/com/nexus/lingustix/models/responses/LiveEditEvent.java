@@ -0,0 +1,45 @@
+package com.nexus.lingustix.models.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nexus.lingustix.models.requests.TextOperation;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LiveEditEvent(
+        String type,
+        Long version,
+        String content,
+        List<TextOperation> operations,
+        List<Correction> corrections,
+        CorrectionDelta delta,
+        String message
+) {
+    public static LiveEditEvent snapshot(long version, String content) {
+        return new LiveEditEvent("snapshot", version, content, null, null, null, null);
+    }
+
+    public static LiveEditEvent ack(long version) {
+        return new LiveEditEvent("ack", version, null, null, null, null, null);
+    }
+
+    public static LiveEditEvent edit(long version, List<TextOperation> operations) {
+        return new LiveEditEvent("edit", version, null, operations, null, null, null);
+    }
+
+    public static LiveEditEvent corrections(long version, CorrectionDelta delta) {
+        return new LiveEditEvent("corrections", version, null, null, null, delta, null);
+    }
+
+    public static LiveEditEvent quickCorrections(long version, List<Correction> corrections) {
+        return new LiveEditEvent("quick-corrections", version, null, null, corrections, null, null);
+    }
+
+    public static LiveEditEvent conflict(long version, String content, String message) {
+        return new LiveEditEvent("conflict", version, content, null, null, null, message);
+    }
+
+    public static LiveEditEvent error(String message) {
+        return new LiveEditEvent("error", null, null, null, null, null, message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.nexus.lingustix.models.responses;
+
+import java.time.LocalDateTime;
+
+public record LiveTicketResponse(
+        String ticket,
+        LocalDateTime expirationDate
+)
+{}
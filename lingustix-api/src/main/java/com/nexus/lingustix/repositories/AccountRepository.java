@@ -2,8 +2,10 @@ package com.nexus.lingustix.repositories;
 
 import com.nexus.lingustix.models.entities.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,13 @@ import java.util.UUID;
 public interface AccountRepository extends JpaRepository<Account, UUID> {
     Optional<Account> findByEmail(String email);
     Optional<Account> findByUsername(String username);
+
+    @Query("SELECT w FROM Account a JOIN a.ignoredWords w WHERE a.id = :id")
+    List<String> findIgnoredWordsById(UUID id);
+
+    @Query("SELECT r FROM Account a JOIN a.disabledRules r WHERE a.id = :id")
+    List<String> findDisabledRulesById(UUID id);
+
+    @Query("SELECT c FROM Account a JOIN a.disabledCategories c WHERE a.id = :id")
+    List<String> findDisabledCategoriesById(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.nexus.lingustix.repositories;
+
+import com.nexus.lingustix.models.entities.CompositionBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CompositionBodyRepository extends JpaRepository<CompositionBody, UUID> {
+    @Query("SELECT b.content FROM CompositionBody b WHERE b.id = :id")
+    Optional<String> findContentById(UUID id);
+
+    @Query("SELECT b FROM CompositionBody b JOIN FETCH b.composition")
+    List<CompositionBody> findAllWithComposition();
+}
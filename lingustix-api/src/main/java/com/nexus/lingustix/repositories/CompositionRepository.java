@@ -2,12 +2,17 @@ package com.nexus.lingustix.repositories;
 
 import com.nexus.lingustix.models.entities.Account;
 import com.nexus.lingustix.models.entities.Composition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
@@ -20,8 +25,48 @@ public interface CompositionRepository extends JpaRepository<Composition, UUID>
     @Query("SELECT c.id FROM Composition c WHERE c.owner.id = :ownerId")
     List<UUID> findIdsByOwnerId(UUID ownerId);
 
+    @Query("SELECT c.id FROM Composition c WHERE c.owner.id = :ownerId AND c.id IN :ids")
+    List<UUID> findIdsByOwnerIdAndIdIn(UUID ownerId, Collection<UUID> ids);
+
+    // Keyset pages on (updatedAt, id), served by idx_composition_account_last_updated_id
+    @Query("SELECT c.id AS id, c.title AS title, c.updatedAt AS updatedAt, c.wordCount AS wordCount, " +
+            "c.excerpt AS excerpt FROM Composition c WHERE c.owner.id = :ownerId ORDER BY c.updatedAt DESC, c.id DESC")
+    List<Summary> findSummariesByOwnerId(UUID ownerId, Limit limit);
+
+    @Query("SELECT c.id AS id, c.title AS title, c.updatedAt AS updatedAt, c.wordCount AS wordCount, " +
+            "c.excerpt AS excerpt FROM Composition c WHERE c.owner.id = :ownerId " +
+            "AND (c.updatedAt < :updatedAt OR (c.updatedAt = :updatedAt AND c.id < :id)) ORDER BY c.updatedAt DESC, c.id DESC")
+    List<Summary> findSummariesByOwnerIdAfter(UUID ownerId, LocalDateTime updatedAt, UUID id, Limit limit);
+
     boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
     Page<Composition> findByOwnerId(UUID ownerId, Pageable pageable);
 
+    @Query("SELECT c.owner.id AS ownerId, c.languageOverride AS languageOverride, c.detectedLanguage AS detectedLanguage, " +
+            "c.detectedLanguageLength AS detectedLanguageLength, c.detectedLanguageSketch AS detectedLanguageSketch " +
+            "FROM Composition c WHERE c.id = :id")
+    Optional<EvaluationSettings> findEvaluationSettingsById(UUID id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Composition c SET c.detectedLanguage = :language, c.detectedLanguageLength = :length, " +
+            "c.detectedLanguageSketch = :sketch WHERE c.id = :id")
+    void updateDetectedLanguage(UUID id, String language, int length, long sketch);
+
     UUID owner(Account owner);
+
+    interface Summary {
+        UUID getId();
+        String getTitle();
+        LocalDateTime getUpdatedAt();
+        Integer getWordCount();
+        String getExcerpt();
+    }
+
+    interface EvaluationSettings {
+        UUID getOwnerId();
+        String getLanguageOverride();
+        String getDetectedLanguage();
+        Integer getDetectedLanguageLength();
+        Long getDetectedLanguageSketch();
+    }
 }
@@ -0,0 +1,52 @@
+package com.nexus.lingustix.repositories;
+
+import com.nexus.lingustix.models.entities.CompositionRevision;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CompositionRevisionRepository extends JpaRepository<CompositionRevision, UUID> {
+    Optional<CompositionRevision> findTopByCompositionIdOrderByVersionDesc(UUID compositionId);
+
+    Optional<CompositionRevision> findByCompositionIdAndVersion(UUID compositionId, long version);
+
+    @Query("SELECT r FROM CompositionRevision r WHERE r.composition.id = :compositionId " +
+            "AND r.version BETWEEN :fromVersion AND :toVersion ORDER BY r.version")
+    List<CompositionRevision> findChain(UUID compositionId, long fromVersion, long toVersion);
+
+    @Query("SELECT COUNT(r) FROM CompositionRevision r WHERE r.composition.id = :compositionId AND r.baseVersion = :baseVersion")
+    long countByBaseVersion(UUID compositionId, long baseVersion);
+
+    @Query(value = "SELECT r.version AS version, r.snapshot AS snapshot, r.length AS length, r.createdAt AS createdAt " +
+            "FROM CompositionRevision r WHERE r.composition.id = :compositionId ORDER BY r.version DESC",
+            countQuery = "SELECT COUNT(r) FROM CompositionRevision r WHERE r.composition.id = :compositionId")
+    Page<Summary> findSummaries(UUID compositionId, Pageable pageable);
+
+    /**
+     * Deletes the deltas of every chain that was closed by a snapshot taken
+     * before {@code cutoff}; the snapshots themselves are kept.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CompositionRevision r WHERE r.snapshot = false AND EXISTS (" +
+            "SELECT s.id FROM CompositionRevision s WHERE s.composition.id = r.composition.id " +
+            "AND s.snapshot = true AND s.version > r.version AND s.createdAt < :cutoff)")
+    int deleteClosedDeltasBefore(LocalDateTime cutoff);
+
+    interface Summary {
+        long getVersion();
+        boolean isSnapshot();
+        int getLength();
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,61 @@
+package com.nexus.lingustix.repositories;
+
+import com.nexus.lingustix.models.entities.EvaluationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EvaluationJobRepository extends JpaRepository<EvaluationJob, UUID> {
+    boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
+    @Query("SELECT j.id FROM EvaluationJob j WHERE j.status IN :statuses " +
+            "AND (j.claimedBy IS NULL OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    List<UUID> findUnclaimedIds(Collection<EvaluationJob.Status> statuses, LocalDateTime staleBefore);
+
+    @Query("SELECT c FROM EvaluationJob j JOIN j.compositionIds c WHERE j.id = :id")
+    List<UUID> findCompositionIdsById(UUID id);
+
+    /**
+     * Takes over an unfinished job nobody runs anymore; only one node can win,
+     * because the row is re-checked under its lock. Returns 1 when claimed.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EvaluationJob j SET j.claimedBy = :node, j.heartbeatAt = :now WHERE j.id = :id AND j.status IN :statuses " +
+            "AND (j.claimedBy IS NULL OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int claim(UUID id, String node, Collection<EvaluationJob.Status> statuses, LocalDateTime staleBefore, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EvaluationJob j SET j.heartbeatAt = :now WHERE j.claimedBy = :node AND j.status IN :statuses")
+    void heartbeat(String node, Collection<EvaluationJob.Status> statuses, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EvaluationJob j SET j.status = :status, j.completed = 0, j.failed = 0, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.claimedBy = :node")
+    void start(UUID id, String node, EvaluationJob.Status status, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EvaluationJob j SET j.completed = j.completed + 1, j.updatedAt = :now WHERE j.id = :id AND j.claimedBy = :node")
+    void incrementCompleted(UUID id, String node, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EvaluationJob j SET j.failed = j.failed + 1, j.updatedAt = :now WHERE j.id = :id AND j.claimedBy = :node")
+    void incrementFailed(UUID id, String node, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EvaluationJob j SET j.status = :status, j.updatedAt = :now WHERE j.id = :id AND j.claimedBy = :node")
+    void updateStatus(UUID id, String node, EvaluationJob.Status status, LocalDateTime now);
+}
@@ -4,6 +4,7 @@ import com.nexus.lingustix.models.entities.Account;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AccountService {
@@ -11,6 +12,9 @@ public interface AccountService {
     Account updateEmail(UUID accountId, String newEmail);
     Account updatePassword(UUID accountId, String newPassword);
     Account updateUsername(UUID accountId, String newUsername);
+    Account getPreferences(UUID accountId);
+    Account updatePreferences(UUID accountId, Set<String> ignoredWords, Set<String> disabledRules, Set<String> disabledCategories);
+    Account addIgnoredWord(UUID accountId, String word);
     void delete(UUID accountId);
 
     UUID getAuthenticatedAccountId();
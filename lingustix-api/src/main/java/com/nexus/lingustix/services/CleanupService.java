@@ -13,10 +13,16 @@ import java.time.LocalDateTime;
 public class CleanupService {
 
     private final RevokedTokenRepository revokedTokenRepository;
+    private final CompositionRevisionService compositionRevisionService;
 
     @Scheduled(fixedRate = 3600000)
     @Transactional
     public void cleanupExpiredTokens() {
         revokedTokenRepository.deleteByExpiryDateBefore(LocalDateTime.now());
     }
+
+    @Scheduled(fixedRate = 3600000)
+    public void pruneRevisions() {
+        compositionRevisionService.prune();
+    }
 }
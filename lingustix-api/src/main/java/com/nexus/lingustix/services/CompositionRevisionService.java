@@ -0,0 +1,23 @@
+package com.nexus.lingustix.services;
+
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.entities.CompositionRevision;
+import com.nexus.lingustix.repositories.CompositionRevisionRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface CompositionRevisionService {
+    /**
+     * Records the content of {@code composition} at its current (flushed) version;
+     * {@code previousContent} is its content before the change.
+     */
+    void record(Composition composition, String previousContent);
+
+    Page<CompositionRevisionRepository.Summary> getByComposition(UUID compositionId, Pageable pageable);
+    CompositionRevision getByVersion(UUID compositionId, long version);
+    String getContent(CompositionRevision revision);
+
+    int prune();
+}
@@ -1,6 +1,10 @@
 package com.nexus.lingustix.services;
 
 import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.requests.AppliedCorrection;
+import com.nexus.lingustix.models.requests.TextOperation;
+import com.nexus.lingustix.models.responses.CursorPage;
+import com.nexus.lingustix.repositories.CompositionRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,12 +16,17 @@ public interface CompositionService {
     Composition create(UUID ownerId, String title);
     Composition updateTitle(UUID ownerId, String title);
     Composition updateContent(UUID ownerId, String content);
+    Composition patchContent(UUID id, long baseVersion, List<TextOperation> operations);
+    Composition updateLanguage(UUID id, String language);
+    Composition applyCorrections(UUID id, Long expectedVersion, List<AppliedCorrection> corrections);
     void delete(UUID id);
 
     boolean verifyOwnership(UUID compositionId, UUID ownerId);
 
     Page<UUID> getIdsByOwner(UUID ownerId, Pageable pageable);
+    CursorPage<CompositionRepository.Summary> getSummariesByOwner(UUID ownerId, String cursor, int size);
     Optional<Composition> getById(UUID id);
+    Optional<Composition> getByIdWithContent(UUID id);
     List<UUID> getByOwner(UUID ownerId);
     Page<UUID> getByOwner(UUID ownerId, Pageable pageable);
 
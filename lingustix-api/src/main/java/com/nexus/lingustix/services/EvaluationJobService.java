@@ -0,0 +1,15 @@
+package com.nexus.lingustix.services;
+
+import com.nexus.lingustix.models.entities.EvaluationJob;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EvaluationJobService {
+    EvaluationJob create(UUID ownerId, List<UUID> compositionIds);
+
+    boolean verifyOwnership(UUID jobId, UUID ownerId);
+
+    Optional<EvaluationJob> getById(UUID jobId);
+}
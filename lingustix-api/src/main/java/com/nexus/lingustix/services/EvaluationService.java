@@ -1,10 +1,27 @@
 package com.nexus.lingustix.services;
 
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
 import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 public interface EvaluationService {
     List<Correction> create(UUID compositionId);
+    List<Correction> create(UUID compositionId, Priority priority);
+    List<Correction> create(UUID compositionId, String content);
+    CorrectionDelta createDelta(UUID compositionId, String baseVersion);
+    Optional<List<Correction>> getByCompositionId(UUID compositionId);
+    List<Correction> quick(UUID compositionId);
+    List<Correction> quick(UUID accountId, String language, String content);
+    Future<?> stream(UUID compositionId, EvaluationListener listener);
+
+    interface EvaluationListener {
+        void onCorrections(List<Correction> corrections);
+        void onComplete(int total);
+        void onError(Exception exception);
+    }
 }
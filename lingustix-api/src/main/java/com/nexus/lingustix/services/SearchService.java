@@ -1,15 +1,14 @@
 package com.nexus.lingustix.services;
 
 import com.nexus.lingustix.models.searches.CompositionIndex;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.nexus.lingustix.models.responses.CursorPage;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface SearchService {
     List<CompositionIndex> searchCompositions(String query, UUID ownerId);
-    Page<CompositionIndex> searchCompositions(String query, UUID ownerId, Pageable pageable);
+    CursorPage<CompositionIndex> searchCompositions(String query, UUID ownerId, String cursor, int size);
     void reindexComposition(UUID id);
     void rebuildIndex();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.nexus.lingustix.services.impl;
 
+import com.nexus.lingustix.components.AccountPreferencesComponent;
 import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
 import com.nexus.lingustix.components.GlobalExceptionComponent.ResourceNotFoundException;
 import com.nexus.lingustix.components.GlobalExceptionComponent.UnauthorizedException;
@@ -12,9 +13,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -23,6 +28,7 @@ public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountPreferencesComponent accountPreferencesComponent;
 
     @Override
     @Transactional
@@ -74,6 +80,46 @@ public class AccountServiceImpl implements AccountService {
         return accountRepository.save(account);
     }
 
+    // Preference collections initialized so they can be read after the transaction
+    @Override
+    @Transactional(readOnly = true)
+    public Account getPreferences(UUID id) {
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+
+        return initializePreferences(account);
+    }
+
+    @Override
+    @Transactional
+    public Account updatePreferences(UUID id, Set<String> ignoredWords, Set<String> disabledRules, Set<String> disabledCategories) {
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+
+        account.getIgnoredWords().clear();
+        if (ignoredWords != null) ignoredWords.forEach(word -> account.getIgnoredWords().add(normalizeWord(word)));
+        account.getDisabledRules().clear();
+        if (disabledRules != null) account.getDisabledRules().addAll(disabledRules);
+        account.getDisabledCategories().clear();
+        if (disabledCategories != null) account.getDisabledCategories().addAll(disabledCategories);
+
+        Account saved = initializePreferences(accountRepository.save(account));
+        invalidatePreferencesAfterCommit(id);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Account addIgnoredWord(UUID id, String word) {
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+
+        account.getIgnoredWords().add(normalizeWord(word));
+        Account saved = initializePreferences(accountRepository.save(account));
+        invalidatePreferencesAfterCommit(id);
+        return saved;
+    }
+
     @Override
     @Transactional
     public void delete(UUID id) {
@@ -104,6 +150,26 @@ public class AccountServiceImpl implements AccountService {
         return (String) authentication.getPrincipal();
     }
 
+    private void invalidatePreferencesAfterCommit(UUID id) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountPreferencesComponent.invalidate(id);
+            }
+        });
+    }
+
+    private static String normalizeWord(String word) {
+        return word.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static Account initializePreferences(Account account) {
+        account.getIgnoredWords().size();
+        account.getDisabledRules().size();
+        account.getDisabledCategories().size();
+        return account;
+    }
+
     @Override
     public Optional<Account> getById(UUID id) {
         return accountRepository.findById(id);
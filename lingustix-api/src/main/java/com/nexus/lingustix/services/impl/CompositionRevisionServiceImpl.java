@@ -0,0 +1,119 @@
+package com.nexus.lingustix.services.impl;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.ResourceNotFoundException;
+import com.nexus.lingustix.components.TextSegmentComponent;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.entities.CompositionRevision;
+import com.nexus.lingustix.models.requests.TextOperation;
+import com.nexus.lingustix.repositories.CompositionRevisionRepository;
+import com.nexus.lingustix.services.CompositionRevisionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps the revision history of compositions as chains: a compressed snapshot
+ * followed by forward deltas. A new chain starts every
+ * {@code app.revisions.snapshot-interval} revisions, when a delta would be
+ * larger than half the content, or when the content no longer matches the last
+ * revision. Reading a revision replays at most one chain.
+ */
+@Service
+@RequiredArgsConstructor
+public class CompositionRevisionServiceImpl implements CompositionRevisionService {
+
+    private final CompositionRevisionRepository compositionRevisionRepository;
+    private final TextSegmentComponent textSegmentComponent;
+
+    @Value("${app.revisions.snapshot-interval:50}")
+    private int snapshotInterval;
+
+    @Value("${app.revisions.delta-retention-days:30}")
+    private int deltaRetentionDays;
+
+    @Override
+    @Transactional
+    public void record(Composition composition, String previousContent) {
+        String content = composition.getContent() != null ? composition.getContent() : "";
+        String previous = previousContent != null ? previousContent : "";
+
+        Optional<CompositionRevision> latest = compositionRevisionRepository.findTopByCompositionIdOrderByVersionDesc(composition.getId());
+        if (latest.isPresent() && latest.get().getVersion() >= composition.getContentVersion()) return;
+
+        CompositionRevision.CompositionRevisionBuilder revision = CompositionRevision.builder()
+                .composition(composition)
+                .version(composition.getContentVersion())
+                .length(content.length())
+                .digest(textSegmentComponent.fingerprint(content));
+
+        List<TextOperation> operations = latest.filter(last -> continues(last, previous))
+                .map(last -> TextOperation.diff(previous, content))
+                .filter(delta -> insertedLength(delta) <= content.length() / 2)
+                .orElse(null);
+        if (operations != null) {
+            CompositionRevision last = latest.get();
+            revision.baseVersion(last.getBaseVersion()).snapshot(false).operations(operations);
+        } else {
+            revision.baseVersion(composition.getContentVersion()).snapshot(true).content(content);
+        }
+        compositionRevisionRepository.save(revision.build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CompositionRevisionRepository.Summary> getByComposition(UUID compositionId, Pageable pageable) {
+        return compositionRevisionRepository.findSummaries(compositionId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompositionRevision getByVersion(UUID compositionId, long version) {
+        return compositionRevisionRepository.findByCompositionIdAndVersion(compositionId, version)
+                .orElseThrow(() -> new ResourceNotFoundException("Revision not found", "revision"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getContent(CompositionRevision revision) {
+        if (revision.isSnapshot()) return revision.getContent();
+
+        List<CompositionRevision> chain = compositionRevisionRepository.findChain(
+                revision.getComposition().getId(), revision.getBaseVersion(), revision.getVersion());
+        String content = null;
+        for (CompositionRevision step : chain) {
+            content = step.isSnapshot() ? step.getContent() : TextOperation.apply(content, step.getOperations());
+        }
+        return content;
+    }
+
+    @Override
+    @Transactional
+    public int prune() {
+        return compositionRevisionRepository.deleteClosedDeltasBefore(LocalDateTime.now().minusDays(deltaRetentionDays));
+    }
+
+    /**
+     * Whether a delta can be appended after {@code last}: its chain is not full
+     * and it still describes the content that was just replaced.
+     */
+    private boolean continues(CompositionRevision last, String previous) {
+        return last.getLength() == previous.length()
+                && textSegmentComponent.fingerprint(previous).equals(last.getDigest())
+                && compositionRevisionRepository.countByBaseVersion(last.getComposition().getId(), last.getBaseVersion()) < snapshotInterval;
+    }
+
+    private static int insertedLength(List<TextOperation> operations) {
+        return operations.stream()
+                .filter(operation -> operation.insert() != null)
+                .mapToInt(operation -> operation.insert().length())
+                .sum();
+    }
+}
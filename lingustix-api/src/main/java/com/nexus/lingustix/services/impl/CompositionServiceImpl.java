@@ -1,20 +1,34 @@
 package com.nexus.lingustix.services.impl;
 
+import com.nexus.lingustix.components.CursorComponent;
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
 import com.nexus.lingustix.components.GlobalExceptionComponent.ResourceNotFoundException;
 import com.nexus.lingustix.components.GlobalExceptionComponent.UnauthorizedException;
+import com.nexus.lingustix.components.LanguageToolComponent;
+import com.nexus.lingustix.components.TextSegmentComponent;
 import com.nexus.lingustix.models.entities.Account;
 import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.entities.CompositionBody;
+import com.nexus.lingustix.models.requests.AppliedCorrection;
+import com.nexus.lingustix.models.requests.TextOperation;
+import com.nexus.lingustix.models.responses.CursorPage;
 import com.nexus.lingustix.repositories.AccountRepository;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
 import com.nexus.lingustix.repositories.CompositionRepository;
 import com.nexus.lingustix.services.AccountService;
+import com.nexus.lingustix.services.CompositionRevisionService;
 import com.nexus.lingustix.services.CompositionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,7 +38,12 @@ import java.util.UUID;
 public class CompositionServiceImpl implements CompositionService {
 
     private final CompositionRepository compositionRepository;
+    private final CompositionBodyRepository compositionBodyRepository;
     private final AccountService accountService;
+    private final CompositionRevisionService compositionRevisionService;
+    private final TextSegmentComponent textSegmentComponent;
+    private final CursorComponent cursorComponent;
+    private final LanguageToolComponent languageToolComponent;
 
     private String getCurrentUserId() {
         return SecurityContextHolder.getContext().getAuthentication().getName();
@@ -39,9 +58,13 @@ public class CompositionServiceImpl implements CompositionService {
         Composition composition = Composition.builder()
                 .title(title)
                 .content("")
+                .wordCount(0)
+                .excerpt("")
                 .owner(owner)
                 .build();
-        return compositionRepository.save(composition);
+        Composition saved = compositionRepository.save(composition);
+        compositionBodyRepository.save(CompositionBody.builder().composition(saved).content("").build());
+        return saved;
     }
 
     @Override
@@ -59,10 +82,66 @@ public class CompositionServiceImpl implements CompositionService {
         Composition composition = getById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Composition not found", "composition"));
 
-        composition.setContent(content);
+        return saveContent(composition, getBody(composition), content);
+    }
+
+    @Override
+    @Transactional
+    public Composition patchContent(UUID id, long baseVersion, List<TextOperation> operations) {
+        Composition composition = getById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Composition not found", "composition"));
+        if (baseVersion != composition.getContentVersion())
+            throw new ConflictException("The composition changed since the base version of this patch");
+
+        CompositionBody body = getBody(composition);
+        return saveContent(composition, body, TextOperation.apply(body.getContent(), operations));
+    }
+
+    @Override
+    @Transactional
+    public Composition updateLanguage(UUID id, String language) {
+        Composition composition = getById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Composition not found", "composition"));
+        if (language != null && !languageToolComponent.supports(language))
+            throw new BadRequestException("Unsupported language: " + language);
+
+        composition.setLanguageOverride(language);
         return compositionRepository.save(composition);
     }
 
+    @Override
+    @Transactional
+    public Composition applyCorrections(UUID id, Long expectedVersion, List<AppliedCorrection> corrections) {
+        Composition composition = getById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Composition not found", "composition"));
+        if (expectedVersion != null && expectedVersion != composition.getContentVersion())
+            throw new ConflictException("The composition changed since these corrections were computed");
+
+        CompositionBody body = getBody(composition);
+        return saveContent(composition, body, AppliedCorrection.apply(body.getContent(), corrections));
+    }
+
+    // Flushes so that the revision is recorded under the new content version
+    private Composition saveContent(Composition composition, CompositionBody body, String content) {
+        String previousContent = body.getContent();
+        composition.setContent(content);
+        if (content.equals(previousContent)) return composition;
+
+        body.setContent(content);
+        compositionBodyRepository.save(body);
+        composition.setWordCount(textSegmentComponent.wordCount(content));
+        composition.setExcerpt(textSegmentComponent.excerpt(content, Composition.EXCERPT_LENGTH));
+        composition.setContentVersion(composition.getContentVersion() + 1);
+        Composition saved = compositionRepository.saveAndFlush(composition);
+        compositionRevisionService.record(saved, previousContent);
+        return saved;
+    }
+
+    private CompositionBody getBody(Composition composition) {
+        return compositionBodyRepository.findById(composition.getId())
+                .orElseGet(() -> CompositionBody.builder().composition(composition).content("").build());
+    }
+
     @Override
     @Transactional
     public void delete(UUID id) {
@@ -82,11 +161,38 @@ public class CompositionServiceImpl implements CompositionService {
         return compositionRepository.findIdsByOwnerId(ownerId, pageable);
     }
 
+    @Override
+    public CursorPage<CompositionRepository.Summary> getSummariesByOwner(UUID ownerId, String cursor, int size) {
+        List<String> after = cursorComponent.decode(cursor, 2);
+        Limit limit = Limit.of(size + 1);
+        List<CompositionRepository.Summary> summaries;
+        try {
+            summaries = after == null
+                    ? compositionRepository.findSummariesByOwnerId(ownerId, limit)
+                    : compositionRepository.findSummariesByOwnerIdAfter(ownerId, LocalDateTime.parse(after.get(0)), UUID.fromString(after.get(1)), limit);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (summaries.size() <= size) return new CursorPage<>(summaries, null);
+        CompositionRepository.Summary last = summaries.get(size - 1);
+        return new CursorPage<>(summaries.subList(0, size), cursorComponent.encode(last.getUpdatedAt(), last.getId()));
+    }
+
     @Override
     public Optional<Composition> getById(UUID id) {
         return compositionRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Composition> getByIdWithContent(UUID id) {
+        return compositionRepository.findById(id).map(composition -> {
+            composition.setContent(compositionBodyRepository.findContentById(id).orElse(""));
+            return composition;
+        });
+    }
+
     @Override
     public List<UUID> getByOwner(UUID ownerId) {
         return compositionRepository.findIdsByOwnerId(ownerId);
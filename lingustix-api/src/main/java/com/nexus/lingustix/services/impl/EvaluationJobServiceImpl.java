@@ -0,0 +1,160 @@
+package com.nexus.lingustix.services.impl;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.UnauthorizedException;
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
+import com.nexus.lingustix.models.entities.Account;
+import com.nexus.lingustix.models.entities.EvaluationJob;
+import com.nexus.lingustix.repositories.AccountRepository;
+import com.nexus.lingustix.repositories.CompositionRepository;
+import com.nexus.lingustix.repositories.EvaluationJobRepository;
+import com.nexus.lingustix.services.EvaluationJobService;
+import com.nexus.lingustix.services.EvaluationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+// Jobs are claimed by the node running them; stale claims are taken over by exactly one other node
+@Service
+@RequiredArgsConstructor
+public class EvaluationJobServiceImpl implements EvaluationJobService {
+
+    private final EvaluationJobRepository evaluationJobRepository;
+    private final CompositionRepository compositionRepository;
+    private final AccountRepository accountRepository;
+    private final EvaluationService evaluationService;
+
+    private static final List<EvaluationJob.Status> UNFINISHED = List.of(EvaluationJob.Status.QUEUED, EvaluationJob.Status.RUNNING);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final String node = UUID.randomUUID().toString();
+    private final ExecutorService jobExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore workers;
+
+    @Value("${app.evaluation.jobs.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${app.evaluation.jobs.claim-timeout-ms:120000}")
+    private long claimTimeoutMs;
+
+    @PostConstruct
+    void init() {
+        this.workers = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public EvaluationJob create(UUID ownerId, List<UUID> compositionIds) {
+        List<UUID> selected;
+        if (compositionIds == null || compositionIds.isEmpty()) {
+            selected = compositionRepository.findIdsByOwnerId(ownerId);
+        } else {
+            selected = new ArrayList<>(new LinkedHashSet<>(compositionIds));
+            if (compositionRepository.findIdsByOwnerIdAndIdIn(ownerId, selected).size() != selected.size())
+                throw new UnauthorizedException("You do not have permission to evaluate one or more of these compositions.");
+        }
+        if (selected.isEmpty()) throw new BadRequestException("There are no compositions to evaluate");
+
+        Account owner = accountRepository.getReferenceById(ownerId);
+        EvaluationJob job = evaluationJobRepository.save(EvaluationJob.builder()
+                .owner(owner)
+                .status(EvaluationJob.Status.QUEUED)
+                .compositionIds(selected)
+                .total(selected.size())
+                .claimedBy(node)
+                .heartbeatAt(LocalDateTime.now())
+                .build());
+
+        UUID jobId = job.getId();
+        jobExecutor.execute(() -> run(jobId, selected));
+        return job;
+    }
+
+    @Override
+    public boolean verifyOwnership(UUID jobId, UUID ownerId) {
+        return evaluationJobRepository.existsByIdAndOwnerId(jobId, ownerId);
+    }
+
+    @Override
+    public Optional<EvaluationJob> getById(UUID jobId) {
+        return evaluationJobRepository.findById(jobId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(claimTimeoutMs, ChronoUnit.MILLIS);
+        for (UUID jobId : evaluationJobRepository.findUnclaimedIds(UNFINISHED, staleBefore)) {
+            if (evaluationJobRepository.claim(jobId, node, UNFINISHED, staleBefore, now) == 1) {
+                jobExecutor.execute(() -> run(jobId, evaluationJobRepository.findCompositionIdsById(jobId)));
+            }
+        }
+    }
+
+    // Keeps this node's claims alive, then takes over jobs whose node stopped renewing theirs
+    @Scheduled(fixedDelayString = "${app.evaluation.jobs.heartbeat-interval-ms:30000}")
+    public void renewClaims() {
+        evaluationJobRepository.heartbeat(node, UNFINISHED, LocalDateTime.now());
+        resumeUnfinished();
+    }
+
+    // Compositions whose stored evaluation still matches are answered from it, so a resumed job only re-checks the rest
+    private void run(UUID jobId, List<UUID> compositionIds) {
+        try {
+            evaluationJobRepository.start(jobId, node, EvaluationJob.Status.RUNNING, LocalDateTime.now());
+
+            List<Future<?>> tasks = new ArrayList<>(compositionIds.size());
+            for (UUID compositionId : compositionIds) {
+                workers.acquire();
+                tasks.add(jobExecutor.submit(() -> {
+                    try {
+                        evaluate(jobId, compositionId);
+                    } finally {
+                        workers.release();
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) task.get();
+
+            evaluationJobRepository.updateStatus(jobId, node, EvaluationJob.Status.COMPLETED, LocalDateTime.now());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            evaluationJobRepository.updateStatus(jobId, node, EvaluationJob.Status.FAILED, LocalDateTime.now());
+        }
+    }
+
+    // An evaluation superseded by a newer one is retried against the current content, up to MAX_ATTEMPTS
+    private void evaluate(UUID jobId, UUID compositionId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                evaluationService.create(compositionId, Priority.BACKGROUND);
+                evaluationJobRepository.incrementCompleted(jobId, node, LocalDateTime.now());
+                return;
+            } catch (ConflictException e) {
+                if (attempt < MAX_ATTEMPTS) continue;
+                evaluationJobRepository.incrementFailed(jobId, node, LocalDateTime.now());
+                return;
+            } catch (RuntimeException e) {
+                evaluationJobRepository.incrementFailed(jobId, node, LocalDateTime.now());
+                return;
+            }
+        }
+    }
+}
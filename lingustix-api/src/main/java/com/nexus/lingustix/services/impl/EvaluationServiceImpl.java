@@ -1,65 +1,511 @@
 package com.nexus.lingustix.services.impl;
 
+import com.nexus.lingustix.components.AccountPreferencesComponent;
+import com.nexus.lingustix.components.AccountPreferencesComponent.Preferences;
+import com.nexus.lingustix.components.CorrectionDeltaComponent;
+import com.nexus.lingustix.components.EvaluationStateComponent;
+import com.nexus.lingustix.components.FastCheckComponent;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
 import com.nexus.lingustix.components.GlobalExceptionComponent.ResourceNotFoundException;
-import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.components.LanguageToolComponent;
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.Match;
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import com.nexus.lingustix.components.SentenceCacheComponent;
+import com.nexus.lingustix.components.TextSegmentComponent;
+import com.nexus.lingustix.components.TextSegmentComponent.Segment;
+import com.nexus.lingustix.models.entities.Evaluation;
 import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
 import com.nexus.lingustix.repositories.CompositionRepository;
+import com.nexus.lingustix.repositories.CompositionRepository.EvaluationSettings;
+import com.nexus.lingustix.repositories.EvaluationRepository;
 import com.nexus.lingustix.services.EvaluationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class EvaluationServiceImpl implements EvaluationService {
 
+    private static final String AUTO_LANGUAGE = "auto";
+    private static final String SENTENCE_SEPARATOR = "\n\n";
+
     private final CompositionRepository compositionRepository;
-    private final RestClient restClient = RestClient.create();
+    private final CompositionBodyRepository compositionBodyRepository;
+    private final EvaluationRepository evaluationRepository;
+    private final TextSegmentComponent textSegmentComponent;
+    private final SentenceCacheComponent sentenceCacheComponent;
+    private final EvaluationStateComponent evaluationStateComponent;
+    private final LanguageToolComponent languageToolComponent;
+    private final FastCheckComponent fastCheckComponent;
+    private final CorrectionDeltaComponent correctionDeltaComponent;
+    private final AccountPreferencesComponent accountPreferencesComponent;
+
+    // Running evaluations per composition: identical requests join, different content cancels
+    private final ConcurrentHashMap<UUID, Flight> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService evaluationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${languagetool.language.redetect-ratio:0.5}")
+    private double redetectRatio;
+
+    @Value("${languagetool.language.redetect-distance:12}")
+    private int redetectDistance;
 
-    @Value("${languagetool.url:http://localhost:8081/v2}")
-    private String languageToolUrl;
+    @Value("${languagetool.chunk.threshold:6000}")
+    private int chunkThreshold;
+
+    @Value("${languagetool.chunk.max-length:3000}")
+    private int chunkMaxLength;
+
+    @Value("${languagetool.chunk.max-parallel:4}")
+    private int chunkMaxParallel;
 
     @Override
-    @Transactional
     public List<Correction> create(UUID compositionId) {
-        Composition composition = compositionRepository.findById(compositionId)
+        return create(compositionId, Priority.INTERACTIVE);
+    }
+
+    // No surrounding transaction, so the LanguageTool round trip holds no connection
+    @Override
+    public List<Correction> create(UUID compositionId, Priority priority) {
+        return create(compositionId, content(compositionId), priority);
+    }
+
+    @Override
+    public List<Correction> create(UUID compositionId, String content) {
+        return create(compositionId, content, Priority.INTERACTIVE);
+    }
+
+    private List<Correction> create(UUID compositionId, String content, Priority priority) {
+        CheckContext context = context(compositionId, content, priority);
+        String fingerprint = contentHash(content, context);
+        String language = context.language;
+
+        Optional<Evaluation> stored = evaluationRepository.findByCompositionIdAndContentHashAndLanguage(compositionId, fingerprint, language);
+        if (stored.isPresent()) return context.preferences.filter(stored.get().getCorrections());
+
+        for (boolean waited = false; ; waited = true) {
+            FutureTask<List<Correction>> task = new FutureTask<>(() -> {
+                List<Correction> corrections = evaluate(compositionId, content, context, batch -> {});
+                store(compositionId, fingerprint, content, context, corrections);
+                return corrections;
+            });
+            Flight candidate = new Flight(language + ':' + fingerprint, priority, task);
+
+            Flight[] superseded = new Flight[1];
+            Flight flight = inFlight.compute(compositionId, (id, existing) -> {
+                if (existing == null) return candidate;
+                if (existing.key().equals(candidate.key())) {
+                    // An interactive caller restarts a background evaluation of the same content at its priority
+                    if (existing.priority() == Priority.INTERACTIVE || priority == Priority.BACKGROUND) return existing;
+                } else if (existing.priority() == Priority.INTERACTIVE && priority == Priority.BACKGROUND) {
+                    return existing;
+                }
+                superseded[0] = existing;
+                return candidate;
+            });
+            // Cancelled once the map holds the replacement, so that its waiters can find it
+            if (superseded[0] != null) superseded[0].result().cancel(true);
+
+            if (flight == candidate) {
+                evaluationExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        inFlight.remove(compositionId, candidate);
+                    }
+                });
+            }
+            if (flight == candidate || flight.key().equals(candidate.key())) {
+                return context.preferences.filter(await(compositionId, flight));
+            }
+
+            // Background callers never cancel an interactive evaluation: they wait for it once, then give up
+            if (waited) throw new ConflictException("The composition is being evaluated interactively");
+            awaitQuietly(flight);
+        }
+    }
+
+    // Follows restarts of the same content; any other cancellation means newer content superseded it
+    private List<Correction> await(UUID compositionId, Flight flight) {
+        while (true) {
+            try {
+                return flight.result().get();
+            } catch (CancellationException e) {
+                Flight next = inFlight.get(compositionId);
+                if (next == null || next == flight || !next.key().equals(flight.key()))
+                    throw new ConflictException("Evaluation was superseded by a newer request");
+                flight = next;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+                throw new IllegalStateException("Evaluation failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Evaluation was interrupted", e);
+            }
+        }
+    }
+
+    private void awaitQuietly(Flight flight) {
+        try {
+            flight.result().get();
+        } catch (CancellationException | ExecutionException ignored) {
+            // Only its completion matters here.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Evaluation was interrupted", e);
+        }
+    }
+
+    @Override
+    public CorrectionDelta createDelta(UUID compositionId, String baseVersion) {
+        return correctionDeltaComponent.delta(compositionId, baseVersion, create(compositionId));
+    }
+
+    @Override
+    public Optional<List<Correction>> getByCompositionId(UUID compositionId) {
+        String content = content(compositionId);
+        CheckContext context = context(compositionId, content, Priority.INTERACTIVE);
+
+        return evaluationRepository.findByCompositionIdAndContentHashAndLanguage(
+                        compositionId, contentHash(content, context), context.language)
+                .map(Evaluation::getCorrections)
+                .map(context.preferences::filter);
+    }
+
+    @Override
+    public List<Correction> quick(UUID compositionId) {
+        String content = content(compositionId);
+        EvaluationSettings settings = compositionRepository.findEvaluationSettingsById(compositionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Composition not found"));
+
+        String language = settings.getLanguageOverride() != null ? settings.getLanguageOverride() : settings.getDetectedLanguage();
+        return quick(settings.getOwnerId(), language, content);
+    }
+
+    @Override
+    public List<Correction> quick(UUID accountId, String language, String content) {
+        return accountPreferencesComponent.get(accountId).filter(fastCheckComponent.check(content, language));
+    }
+
+    @Override
+    public Future<?> stream(UUID compositionId, EvaluationListener listener) {
+        String content = content(compositionId);
+        CheckContext context = context(compositionId, content, Priority.INTERACTIVE);
+        String fingerprint = contentHash(content, context);
+
+        return evaluationExecutor.submit(() -> {
+            try {
+                Optional<Evaluation> stored = evaluationRepository.findByCompositionIdAndContentHashAndLanguage(compositionId, fingerprint, context.language);
+                List<Correction> corrections;
+                if (stored.isPresent()) {
+                    corrections = context.preferences.filter(stored.get().getCorrections());
+                    if (!corrections.isEmpty()) listener.onCorrections(corrections);
+                } else {
+                    corrections = evaluate(compositionId, content, context, batch -> {
+                        List<Correction> kept = context.preferences.filter(batch);
+                        if (kept.isEmpty()) return;
+                        synchronized (listener) {
+                            listener.onCorrections(kept);
+                        }
+                    });
+                    store(compositionId, fingerprint, content, context, corrections);
+                    corrections = context.preferences.filter(corrections);
+                }
+                listener.onComplete(corrections.size());
+            } catch (RuntimeException e) {
+                if (!Thread.currentThread().isInterrupted()) listener.onError(e);
+            }
+        });
+    }
+
+    private String content(UUID compositionId) {
+        return compositionBodyRepository.findContentById(compositionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Composition not found"));
+    }
+
+    // Override, else the pinned language until length or wording drift, else auto
+    private CheckContext context(UUID compositionId, String content, Priority priority) {
+        EvaluationSettings settings = compositionRepository.findEvaluationSettingsById(compositionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Composition not found"));
 
-        LanguageToolResponse response = restClient.post()
-                .uri(languageToolUrl + "/check")
-                .body("text=" + composition.getContent() + "&language=auto")
-                .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
-                .retrieve()
-                .body(LanguageToolResponse.class);
-
-        if (response != null && response.matches() != null) {
-            List<Correction> corrections = response.matches().stream()
-                    .map(match -> Correction.builder()
-                            .original(composition.getContent().substring(match.offset(), match.offset() + match.length()))
-                            .suggested(match.replacements().isEmpty() ? "" : match.replacements().getFirst().get("value"))
-                            .startOffset(match.offset())
-                            .length(match.length())
-                            .explanation(match.message())
-                            .build())
-                    .collect(Collectors.toList());
+        String language;
+        if (settings.getLanguageOverride() != null) {
+            language = settings.getLanguageOverride();
+        } else if (settings.getDetectedLanguage() == null || settings.getDetectedLanguageLength() == null) {
+            language = AUTO_LANGUAGE;
+        } else {
+            int detectedLength = settings.getDetectedLanguageLength();
+            Long detectedSketch = settings.getDetectedLanguageSketch();
+            boolean drifted = Math.abs(content.length() - detectedLength) > detectedLength * redetectRatio
+                    || detectedSketch != null && Long.bitCount(detectedSketch ^ textSegmentComponent.sketch(content)) > redetectDistance;
+            language = drifted ? AUTO_LANGUAGE : settings.getDetectedLanguage();
+        }
+        return new CheckContext(language, settings.getOwnerId(), priority, accountPreferencesComponent.get(settings.getOwnerId()));
+    }
+
+    private String contentHash(String content, CheckContext context) {
+        String fingerprint = textSegmentComponent.fingerprint(content);
+        return context.preferences.rulesKey().isEmpty() ? fingerprint : fingerprint + ':' + context.preferences.rulesKey();
+    }
+
+    private void store(UUID compositionId, String contentHash, String content, CheckContext context, List<Correction> corrections) {
+        if (context.detectedLanguage != null) {
+            compositionRepository.updateDetectedLanguage(compositionId, context.detectedLanguage, content.length(),
+                    textSegmentComponent.sketch(content));
+        }
+
+        Evaluation evaluation = evaluationRepository.findByCompositionId(compositionId)
+                .orElseGet(() -> Evaluation.builder()
+                        .composition(compositionRepository.getReferenceById(compositionId))
+                        .build());
+        evaluation.setContentHash(contentHash);
+        evaluation.setLanguage(context.effectiveLanguage());
+        evaluation.setCorrections(corrections);
+
+        try {
+            evaluationRepository.save(evaluation);
+        } catch (DataIntegrityViolationException ignored) {
+            // A concurrent evaluation stored its snapshot first.
+        }
+    }
+
+    // Batches go to onBatch as soon as known: unchanged paragraphs, cached sentences, then each chunk
+    private List<Correction> evaluate(UUID compositionId, String content, CheckContext context, Consumer<List<Correction>> onBatch) {
+        Map<String, List<Correction>> previous = evaluationStateComponent.getParagraphs(compositionId, context.cacheKey(context.language));
+        Map<String, List<Correction>> current = new HashMap<>();
+
+        List<Correction> corrections = new ArrayList<>();
+        List<Segment> changed = new ArrayList<>();
+        List<String> changedFingerprints = new ArrayList<>();
+
+        for (Segment paragraph : textSegmentComponent.paragraphs(content)) {
+            String fingerprint = textSegmentComponent.fingerprint(paragraph.text());
+            List<Correction> unchanged = previous.get(fingerprint);
+            if (unchanged == null) {
+                changed.add(paragraph);
+                changedFingerprints.add(fingerprint);
+            } else {
+                current.put(fingerprint, unchanged);
+                unchanged.forEach(correction -> corrections.add(correction.shift(paragraph.offset())));
+            }
+        }
+
+        emit(onBatch, corrections);
+
+        if (!changed.isEmpty()) {
+            List<Correction> fresh = checkSentences(changed.stream()
+                    .flatMap(paragraph -> textSegmentComponent.sentences(paragraph).stream())
+                    .toList(), context, onBatch);
+
+            int next = 0;
+            for (int i = 0; i < changed.size(); i++) {
+                Segment paragraph = changed.get(i);
+                List<Correction> relative = new ArrayList<>();
+                while (next < fresh.size() && fresh.get(next).startOffset() < paragraph.end()) {
+                    relative.add(fresh.get(next++).shift(-paragraph.offset()));
+                }
+                current.put(changedFingerprints.get(i), relative);
+            }
+            corrections.addAll(fresh);
+        }
+
+        evaluationStateComponent.putParagraphs(compositionId, context.cacheKey(context.effectiveLanguage()), current);
+
+        corrections.sort(Comparator.comparingInt(Correction::startOffset));
+        return corrections;
+    }
+
+    private List<Correction> checkSentences(List<Segment> sentences, CheckContext context, Consumer<List<Correction>> onBatch) {
+        List<Correction> corrections = new ArrayList<>();
+        List<Segment> misses = new ArrayList<>();
+
+        for (Segment sentence : sentences) {
+            List<Correction> cached = sentenceCacheComponent.get(sentence.text(), context.cacheKey(context.language));
+            if (cached == null) {
+                misses.add(sentence);
+            } else {
+                cached.forEach(correction -> corrections.add(correction.shift(sentence.offset())));
+            }
+        }
+
+        emit(onBatch, corrections);
+
+        if (!misses.isEmpty()) {
+            corrections.addAll(checkChunks(chunk(misses), context, onBatch));
+        }
+
+        corrections.sort(Comparator.comparingInt(Correction::startOffset));
+        return corrections;
+    }
+
+    private List<List<Segment>> chunk(List<Segment> sentences) {
+        int total = sentences.stream().mapToInt(sentence -> sentence.text().length()).sum();
+        if (total <= chunkThreshold) return List.of(sentences);
+
+        List<List<Segment>> chunks = new ArrayList<>();
+        List<Segment> current = new ArrayList<>();
+        int length = 0;
+        for (Segment sentence : sentences) {
+            if (!current.isEmpty() && length + sentence.text().length() > chunkMaxLength) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                length = 0;
+            }
+            current.add(sentence);
+            length += sentence.text().length() + SENTENCE_SEPARATOR.length();
+        }
+        chunks.add(current);
+        return chunks;
+    }
+
+    private List<Correction> checkChunks(List<List<Segment>> chunks, CheckContext context, Consumer<List<Correction>> onBatch) {
+        if (chunks.size() == 1) {
+            List<Correction> corrections = check(chunks.getFirst(), context);
+            emit(onBatch, corrections);
+            return corrections;
+        }
 
+        Semaphore permits = new Semaphore(chunkMaxParallel);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<Correction>>> futures = chunks.stream()
+                    .map(chunk -> executor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            List<Correction> corrections = check(chunk, context);
+                            emit(onBatch, corrections);
+                            return corrections;
+                        } finally {
+                            permits.release();
+                        }
+                    }))
+                    .toList();
+
+            List<Correction> corrections = new ArrayList<>();
+            try {
+                for (Future<List<Correction>> future : futures) {
+                    corrections.addAll(future.get());
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+                throw new IllegalStateException("LanguageTool check failed", e.getCause());
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Evaluation was interrupted", e);
+            }
             return corrections;
         }
+    }
+
+    private List<Correction> check(List<Segment> sentences, CheckContext context) {
+        StringBuilder text = new StringBuilder();
+        int[] starts = new int[sentences.size()];
+        for (int i = 0; i < sentences.size(); i++) {
+            if (i > 0) text.append(SENTENCE_SEPARATOR);
+            starts[i] = text.length();
+            text.append(sentences.get(i).text());
+        }
+
+        Response response = languageToolComponent.check(new CheckRequest(text.toString(), context.language, context.accountId,
+                context.priority, context.preferences.disabledRules(), context.preferences.disabledCategories()));
+
+        if (response == null || response.matches() == null) {
+            throw new RuntimeException("LanguageTool returned no matches");
+        }
+        if (context.language.equals(AUTO_LANGUAGE) && response.language() != null && response.language().code() != null) {
+            context.detected(response.language().code());
+        }
+
+        List<List<Correction>> relative = new ArrayList<>(sentences.size());
+        sentences.forEach(sentence -> relative.add(new ArrayList<>()));
+
+        for (Match match : response.matches()) {
+            int index = Arrays.binarySearch(starts, match.offset());
+            if (index < 0) index = -index - 2;
+            if (index < 0) continue;
+
+            String sentence = sentences.get(index).text();
+            int offset = match.offset() - starts[index];
+            if (offset + match.length() > sentence.length()) continue;
+
+            relative.get(index).add(Correction.builder()
+                    .original(sentence.substring(offset, offset + match.length()))
+                    .suggested(match.replacements().isEmpty() ? "" : match.replacements().getFirst())
+                    .startOffset(offset)
+                    .length(match.length())
+                    .explanation(match.message())
+                    .ruleId(match.ruleId())
+                    .categoryId(match.categoryId())
+                    .build());
+        }
+
+        List<Correction> corrections = new ArrayList<>();
+        for (int i = 0; i < sentences.size(); i++) {
+            Segment sentence = sentences.get(i);
+            sentenceCacheComponent.put(sentence.text(), context.cacheKey(context.language), relative.get(i));
+            relative.get(i).forEach(correction -> corrections.add(correction.shift(sentence.offset())));
+        }
+        return corrections;
+    }
 
-        throw new RuntimeException("LanguageTool returned no matches");
+    private void emit(Consumer<List<Correction>> onBatch, List<Correction> batch) {
+        if (batch.isEmpty()) return;
+        List<Correction> sorted = new ArrayList<>(batch);
+        sorted.sort(Comparator.comparingInt(Correction::startOffset));
+        onBatch.accept(sorted);
     }
 
-    /**
-     * DTOs for parsing LanguageTool JSON response
-     */
-    private record LanguageToolResponse(List<Match> matches, DetectedLanguage language) {}
-    private record DetectedLanguage(String name, String code) {}
-    private record Match(int offset, int length, String message, List<Map<String, String>> replacements) {}
+    private record Flight(String key, Priority priority, Future<List<Correction>> result) {}
+
+    private static final class CheckContext {
+        private final String language;
+        private final UUID accountId;
+        private final Priority priority;
+        private final Preferences preferences;
+        private volatile String detectedLanguage;
+
+        private CheckContext(String language, UUID accountId, Priority priority, Preferences preferences) {
+            this.language = language;
+            this.accountId = accountId;
+            this.priority = priority;
+            this.preferences = preferences;
+        }
+
+        private String cacheKey(String language) {
+            return preferences.rulesKey().isEmpty() ? language : language + '|' + preferences.rulesKey();
+        }
+
+        private synchronized void detected(String code) {
+            if (detectedLanguage == null) detectedLanguage = code;
+        }
+
+        private String effectiveLanguage() {
+            return detectedLanguage != null ? detectedLanguage : language;
+        }
+    }
 }
@@ -1,12 +1,20 @@
 package com.nexus.lingustix.services.impl;
 
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import com.nexus.lingustix.components.CursorComponent;
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.responses.CursorPage;
 import com.nexus.lingustix.models.searches.CompositionIndex;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
 import com.nexus.lingustix.repositories.CompositionRepository;
 import com.nexus.lingustix.repositories.CompositionSearchRepository;
 import com.nexus.lingustix.services.SearchService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,6 +26,9 @@ public class SearchServiceImpl implements SearchService {
 
     private final CompositionSearchRepository compositionSearchRepository;
     private final CompositionRepository compositionRepository;
+    private final CompositionBodyRepository compositionBodyRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CursorComponent cursorComponent;
 
     @Override
     public List<CompositionIndex> searchCompositions(String query, UUID ownerId) {
@@ -27,17 +38,40 @@ public class SearchServiceImpl implements SearchService {
         return compositionSearchRepository.findByTitleOrContentAndOwnerId(query, query, ownerId);
     }
 
+    // search_after on (score, id) instead of offsets, without counting total hits
     @Override
-    public Page<CompositionIndex> searchCompositions(String query, UUID ownerId, Pageable pageable) {
-        if (ownerId == null) {
-            return compositionSearchRepository.findByTitleOrContent(query, query, pageable);
+    public CursorPage<CompositionIndex> searchCompositions(String query, UUID ownerId, String cursor, int size) {
+        List<String> after = cursorComponent.decode(cursor, 2);
+        NativeQueryBuilder search = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> {
+                    b.must(m -> m.multiMatch(match -> match.query(query).fields("title", "content")));
+                    if (ownerId != null) b.filter(f -> f.matchPhrase(match -> match.field("ownerId").query(ownerId.toString())));
+                    return b;
+                }))
+                .withSort(s -> s.score(score -> score.order(SortOrder.Desc)))
+                .withSort(s -> s.field(field -> field.field("id").order(SortOrder.Asc)))
+                .withMaxResults(size + 1)
+                .withTrackTotalHits(false);
+        if (after != null) {
+            try {
+                search.withSearchAfter(List.of(Float.parseFloat(after.get(0)), after.get(1)));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
         }
-        return compositionSearchRepository.findByTitleOrContentAndOwnerId(query, query, ownerId, pageable);
+
+        List<SearchHit<CompositionIndex>> hits = elasticsearchOperations.search(search.build(), CompositionIndex.class).getSearchHits();
+        List<CompositionIndex> results = hits.stream().limit(size).map(SearchHit::getContent).toList();
+        if (hits.size() <= size) return new CursorPage<>(results, null);
+
+        SearchHit<CompositionIndex> last = hits.get(size - 1);
+        return new CursorPage<>(results, cursorComponent.encode(last.getScore(), last.getContent().getId()));
     }
 
     @Override
     public void reindexComposition(UUID id) {
         compositionRepository.findById(id).ifPresent(composition -> {
+            composition.setContent(compositionBodyRepository.findContentById(id).orElse(null));
             CompositionIndex index = CompositionIndex.builder()
                     .id(composition.getId().toString())
                     .title(composition.getTitle())
@@ -51,7 +85,9 @@ public class SearchServiceImpl implements SearchService {
     @Override
     public void rebuildIndex() {
         compositionSearchRepository.deleteAll();
-        compositionRepository.findAll().forEach(composition -> {
+        compositionBodyRepository.findAllWithComposition().forEach(body -> {
+            Composition composition = body.getComposition();
+            composition.setContent(body.getContent());
             CompositionIndex index = CompositionIndex.builder()
                     .id(composition.getId().toString())
                     .title(composition.getTitle())
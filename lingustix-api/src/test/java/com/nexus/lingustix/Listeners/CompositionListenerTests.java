@@ -0,0 +1,72 @@
+package com.nexus.lingustix.Listeners;
+
+import com.nexus.lingustix.models.entities.Account;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.searches.CompositionIndex;
+import com.nexus.lingustix.repositories.CompositionSearchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompositionListenerTests {
+
+    private final CompositionSearchRepository compositionSearchRepository = mock(CompositionSearchRepository.class);
+    private final ElasticsearchOperations elasticsearchOperations = mock(ElasticsearchOperations.class);
+    private final CompositionListener listener = new CompositionListener();
+    private final Account owner = Account.builder().id(UUID.randomUUID()).build();
+
+    @BeforeEach
+    void setUp() {
+        when(elasticsearchOperations.getIndexCoordinatesFor(CompositionIndex.class)).thenReturn(IndexCoordinates.of("compositions"));
+        listener.setCompositionSearchRepository(compositionSearchRepository);
+        listener.setElasticsearchOperations(elasticsearchOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.setCompositionSearchRepository(null);
+        listener.setElasticsearchOperations(null);
+    }
+
+    @Test
+    void updatesOnlyTheTitleWhenTheContentWasNotLoaded() {
+        Composition composition = Composition.builder().id(UUID.randomUUID()).title("Renamed").owner(owner).build();
+
+        listener.onSaveOrUpdate(composition);
+
+        ArgumentCaptor<UpdateQuery> update = ArgumentCaptor.forClass(UpdateQuery.class);
+        verify(elasticsearchOperations).update(update.capture(), any(IndexCoordinates.class));
+        verify(compositionSearchRepository, never()).save(any());
+        assertThat(update.getValue().getId()).isEqualTo(composition.getId().toString());
+        assertThat(update.getValue().getDocument())
+                .containsEntry("title", "Renamed")
+                .containsEntry("ownerId", owner.getId().toString())
+                .doesNotContainKey("content");
+    }
+
+    @Test
+    void indexesTheContentWhenItWasLoaded() {
+        Composition composition = Composition.builder().id(UUID.randomUUID()).title("Draft").content("The quick fox").owner(owner).build();
+
+        listener.onSaveOrUpdate(composition);
+
+        ArgumentCaptor<CompositionIndex> index = ArgumentCaptor.forClass(CompositionIndex.class);
+        verify(compositionSearchRepository).save(index.capture());
+        verify(elasticsearchOperations, never()).update(any(UpdateQuery.class), any(IndexCoordinates.class));
+        assertThat(index.getValue().getContent()).isEqualTo("The quick fox");
+        assertThat(index.getValue().getOwnerId()).isEqualTo(owner.getId());
+    }
+}
@@ -0,0 +1,87 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.repositories.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountPreferencesComponentTests {
+
+    private final UUID accountId = UUID.randomUUID();
+    private final List<String> ignoredWords = new ArrayList<>();
+    private final List<String> disabledRules = new ArrayList<>();
+    private final List<String> disabledCategories = new ArrayList<>();
+    private AccountPreferencesComponent component;
+
+    @BeforeEach
+    void setUp() {
+        AccountRepository repository = mock(AccountRepository.class);
+        when(repository.findIgnoredWordsById(any())).thenAnswer(invocation -> List.copyOf(ignoredWords));
+        when(repository.findDisabledRulesById(any())).thenAnswer(invocation -> List.copyOf(disabledRules));
+        when(repository.findDisabledCategoriesById(any())).thenAnswer(invocation -> List.copyOf(disabledCategories));
+
+        component = new AccountPreferencesComponent(repository, new TextSegmentComponent(), new SimpleMeterRegistry(), 100, 60_000);
+    }
+
+    @Test
+    void dropsCorrectionsOfIgnoredWordsRegardlessOfCase() {
+        ignoredWords.add("Lingustix");
+        Correction ignored = correction("LINGUSTIX", "SPELLING_RULE", "TYPOS");
+        Correction kept = correction("Lingustics", "SPELLING_RULE", "TYPOS");
+
+        assertThat(component.get(accountId).filter(List.of(ignored, kept))).containsExactly(kept);
+    }
+
+    @Test
+    void dropsCorrectionsOfDisabledRulesAndCategories() {
+        disabledRules.add("EN_A_VS_AN");
+        disabledCategories.add("TYPOGRAPHY");
+        Correction rule = correction("a", "EN_A_VS_AN", "MISC");
+        Correction category = correction("--", "DASH_RULE", "TYPOGRAPHY");
+        Correction kept = correction("teh", "SPELLING_RULE", "TYPOS");
+
+        assertThat(component.get(accountId).filter(List.of(rule, category, kept))).containsExactly(kept);
+    }
+
+    @Test
+    void keepsEverythingWithoutPreferences() {
+        List<Correction> corrections = List.of(correction("teh", "SPELLING_RULE", "TYPOS"));
+
+        assertThat(component.get(accountId).filter(corrections)).isSameAs(corrections);
+        assertThat(component.get(null)).isSameAs(AccountPreferencesComponent.Preferences.NONE);
+    }
+
+    @Test
+    void changesTheRulesKeyWithThePreferences() {
+        String none = component.get(accountId).rulesKey();
+
+        disabledRules.add("EN_A_VS_AN");
+        component.invalidate(accountId);
+        String rule = component.get(accountId).rulesKey();
+
+        disabledCategories.add("TYPOGRAPHY");
+        component.invalidate(accountId);
+        String ruleAndCategory = component.get(accountId).rulesKey();
+
+        ignoredWords.add("Lingustix");
+        component.invalidate(accountId);
+
+        assertThat(none).isEmpty();
+        assertThat(rule).isNotEmpty().isNotEqualTo(ruleAndCategory);
+        assertThat(component.get(accountId).rulesKey()).isEqualTo(ruleAndCategory);
+    }
+
+    private static Correction correction(String original, String ruleId, String categoryId) {
+        return new Correction(original, "replacement", 0, original.length(), "explanation", ruleId, categoryId);
+    }
+}
@@ -0,0 +1,124 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.converters.CompressedTextConverter;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompositionMigrationComponentTests {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+    private FakeDatabase database;
+    private CompositionMigrationComponent component;
+
+    @BeforeEach
+    void setUp() {
+        database = new FakeDatabase();
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        component = new CompositionMigrationComponent(database, transactionManager, new TextSegmentComponent(),
+                mock(CompositionBodyRepository.class));
+    }
+
+    @Test
+    void copiesLegacyContentAsRawBodies() {
+        UUID legacy = UUID.randomUUID();
+        database.legacyContent.put(legacy, "Ein Straße 😀");
+
+        component.migrate();
+
+        assertThat(converter.convertToEntityAttribute(database.bodies.get(legacy))).isEqualTo("Ein Straße 😀");
+        assertThat(database.bodies.get(legacy)[0]).isZero();
+        assertThat(database.legacyColumn).isTrue();
+        assertThat(database.legacyColumnNullable).isTrue();
+    }
+
+    @Test
+    void keepsExistingBodiesWhenRunAgain() {
+        UUID migrated = UUID.randomUUID();
+        UUID edited = UUID.randomUUID();
+        database.legacyContent.put(migrated, "Old text");
+        database.legacyContent.put(edited, "Old text");
+        database.bodies.put(edited, converter.convertToDatabaseColumn("Edited text"));
+
+        component.migrate();
+        byte[] first = database.bodies.get(migrated);
+        component.migrate();
+
+        assertThat(database.bodies.get(migrated)).isSameAs(first);
+        assertThat(converter.convertToEntityAttribute(database.bodies.get(edited))).isEqualTo("Edited text");
+        assertThat(database.bodies).hasSize(2);
+    }
+
+    @Test
+    void dropsTheLegacyColumnOnlyWhenEnabled() {
+        database.legacyContent.put(UUID.randomUUID(), "Old text");
+        ReflectionTestUtils.setField(component, "dropLegacyContent", true);
+
+        component.migrate();
+        int statements = database.statements.size();
+        component.migrate();
+
+        assertThat(database.legacyColumn).isFalse();
+        assertThat(database.bodies).hasSize(1);
+        assertThat(database.statements.subList(statements, database.statements.size()))
+                .noneMatch(statement -> statement.startsWith("INSERT"));
+    }
+
+    // The legacy column and the body table, driven by the statements the migration issues
+    private static final class FakeDatabase extends JdbcTemplate {
+        private final Map<UUID, String> legacyContent = new LinkedHashMap<>();
+        private final Map<UUID, byte[]> bodies = new HashMap<>();
+        private final List<String> statements = new ArrayList<>();
+        private boolean legacyColumn = true;
+        private boolean legacyColumnNullable;
+
+        @Override
+        public void execute(String sql) {
+            statements.add(sql);
+            if (sql.equals("ALTER TABLE composition ALTER COLUMN content DROP NOT NULL")) legacyColumnNullable = true;
+            if (sql.equals("ALTER TABLE composition DROP COLUMN content")) legacyColumn = false;
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            assertThat(sql).contains("information_schema.columns");
+            return requiredType.cast(legacyColumn);
+        }
+
+        @Override
+        public int update(String sql) {
+            statements.add(sql);
+            assertThat(sql).startsWith("INSERT INTO composition_body")
+                    .contains("decode('00', 'hex') || convert_to(c.content, 'UTF8')")
+                    .contains("NOT EXISTS");
+            int copied = 0;
+            for (Map.Entry<UUID, String> row : legacyContent.entrySet()) {
+                if (row.getValue() == null || bodies.containsKey(row.getKey())) continue;
+                byte[] utf8 = row.getValue().getBytes(StandardCharsets.UTF_8);
+                byte[] body = new byte[utf8.length + 1];
+                System.arraycopy(utf8, 0, body, 1, utf8.length);
+                bodies.put(row.getKey(), body);
+                copied++;
+            }
+            return copied;
+        }
+    }
+}
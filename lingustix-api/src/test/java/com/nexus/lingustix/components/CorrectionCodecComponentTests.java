@@ -0,0 +1,139 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrectionCodecComponentTests {
+
+    private final CorrectionCodecComponent codec = new CorrectionCodecComponent();
+
+    private static final List<Correction> CORRECTIONS = List.of(
+            new Correction("Teh", "The", 0, 3, "Possible spelling mistake", "MORFOLOGIK_RULE_EN_US", "TYPOS"),
+            new Correction("recieve", "receive", 300, 7, "Possible spelling mistake", "MORFOLOGIK_RULE_EN_US", "TYPOS"),
+            new Correction("a", null, 12, 1, null, null, null));
+
+    @Test
+    void encodesListsThatDecodeBack() {
+        Decoder decoder = new Decoder(codec.encoder().encode(CORRECTIONS));
+
+        assertThat(decoder.readList()).isEqualTo(CORRECTIONS);
+        assertThat(decoder.remaining()).isZero();
+    }
+
+    @Test
+    void sendsRepeatedStringsOncePerEncoder() {
+        CorrectionCodecComponent.Encoder encoder = codec.encoder();
+        byte[] first = encoder.encodeQuickCorrections(1, CORRECTIONS);
+        byte[] second = encoder.encodeQuickCorrections(2, CORRECTIONS);
+
+        assertThat(second.length).isLessThan(first.length);
+        assertThat(new String(second, StandardCharsets.UTF_8)).doesNotContain("Possible spelling mistake");
+
+        Decoder decoder = new Decoder(first);
+        assertThat(decoder.readByte()).isEqualTo(1);
+        assertThat(decoder.readVarint()).isEqualTo(1);
+        assertThat(decoder.readList()).isEqualTo(CORRECTIONS);
+        decoder.reset(second);
+        assertThat(decoder.readByte()).isEqualTo(1);
+        assertThat(decoder.readVarint()).isEqualTo(2);
+        assertThat(decoder.readList()).isEqualTo(CORRECTIONS);
+    }
+
+    @Test
+    void encodesDeltas() {
+        CorrectionDelta delta = new CorrectionDelta("v2", "v1", null, List.of(0, 3),
+                List.of(new CorrectionDelta.Shift(1, 3, -70)), CORRECTIONS.subList(0, 1));
+
+        Decoder decoder = new Decoder(codec.encoder().encodeCorrections(5, delta));
+
+        assertThat(decoder.readByte()).isEqualTo(2);
+        assertThat(decoder.readVarint()).isEqualTo(5);
+        assertThat(decoder.readString()).isEqualTo("v2");
+        assertThat(decoder.readString()).isEqualTo("v1");
+        assertThat(decoder.readByte()).isZero();
+        assertThat(decoder.readVarint()).isEqualTo(2);
+        assertThat(List.of(decoder.readVarint(), decoder.readVarint())).containsExactly(0L, 3L);
+        assertThat(decoder.readVarint()).isEqualTo(1);
+        assertThat(List.of(decoder.readVarint(), decoder.readVarint(), decoder.readSignedVarint())).containsExactly(1L, 3L, -70L);
+        assertThat(decoder.readList()).isEqualTo(CORRECTIONS.subList(0, 1));
+        assertThat(decoder.remaining()).isZero();
+    }
+
+    /**
+     * Reference decoder following the grammar documented on the codec.
+     */
+    private static final class Decoder {
+        private final List<String> table = new ArrayList<>();
+        private byte[] data;
+        private int position;
+
+        private Decoder(byte[] data) {
+            this.data = data;
+        }
+
+        private void reset(byte[] data) {
+            this.data = data;
+            this.position = 0;
+        }
+
+        private int remaining() {
+            return data.length - position;
+        }
+
+        private int readByte() {
+            return data[position++] & 0xFF;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+        }
+
+        private long readSignedVarint() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private String readString() {
+            int length = (int) readVarint();
+            if (length == 0) return null;
+            String value = new String(data, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+
+        private String readReference() {
+            int index = (int) readVarint();
+            if (index < table.size()) return table.get(index);
+            String value = readString();
+            table.add(value);
+            return value;
+        }
+
+        private List<Correction> readList() {
+            int size = (int) readVarint();
+            List<Correction> corrections = new ArrayList<>(size);
+            int start = 0;
+            for (int i = 0; i < size; i++) {
+                start += (int) readSignedVarint();
+                int length = (int) readVarint();
+                String explanation = readReference();
+                String ruleId = readReference();
+                String categoryId = readReference();
+                corrections.add(new Correction(readString(), readString(), start, length, explanation, ruleId, categoryId));
+            }
+            return corrections;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.models.responses.CorrectionDelta;
+import com.nexus.lingustix.models.responses.CorrectionDelta.Shift;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrectionDeltaComponentTests {
+
+    private final CorrectionDeltaComponent correctionDeltaComponent =
+            new CorrectionDeltaComponent(new TextSegmentComponent(), 100, 60_000);
+
+    @Test
+    void returnsTheFullSetForAnUnknownBase() {
+        List<Correction> corrections = List.of(correction("teh", "SPELLING", 0));
+
+        CorrectionDelta delta = correctionDeltaComponent.delta(UUID.randomUUID(), "unknown", corrections);
+
+        assertThat(delta.baseVersion()).isNull();
+        assertThat(delta.corrections()).isEqualTo(corrections);
+    }
+
+    @Test
+    void shiftsFindingsMovedByAnEditAndReportsTheRest() {
+        UUID compositionId = UUID.randomUUID();
+        List<Correction> base = List.of(
+                correction("teh", "SPELLING", 0),
+                correction("recieve", "SPELLING", 20),
+                correction("alot", "SPELLING", 40),
+                correction("wich", "SPELLING", 60));
+        String baseVersion = correctionDeltaComponent.remember(compositionId, base);
+
+        // Five characters inserted after the first finding; the second one fixed, a new one found
+        List<Correction> current = List.of(
+                correction("teh", "SPELLING", 0),
+                correction("alot", "SPELLING", 45),
+                correction("wich", "SPELLING", 65),
+                correction("thier", "SPELLING", 80));
+
+        CorrectionDelta delta = correctionDeltaComponent.delta(compositionId, baseVersion, current);
+
+        assertThat(delta.baseVersion()).isEqualTo(baseVersion);
+        assertThat(delta.version()).isEqualTo(correctionDeltaComponent.version(current));
+        assertThat(delta.removed()).containsExactly(1);
+        assertThat(delta.shifts()).containsExactly(new Shift(2, 4, 5));
+        assertThat(delta.added()).containsExactly(correction("thier", "SPELLING", 80));
+        assertThat(applyDelta(base, delta)).isEqualTo(current);
+    }
+
+    @Test
+    void doesNotMatchFindingsOfDifferentRules() {
+        List<Correction> base = List.of(correction("their", "CONFUSION_A", 10));
+        List<Correction> current = List.of(correction("their", "CONFUSION_B", 10));
+
+        CorrectionDelta delta = correctionDeltaComponent.diff("a", base, "b", current);
+
+        assertThat(delta.removed()).containsExactly(0);
+        assertThat(delta.added()).containsExactly(current.getFirst());
+    }
+
+    private static List<Correction> applyDelta(List<Correction> base, CorrectionDelta delta) {
+        List<Correction> result = new ArrayList<>();
+        for (int i = 0; i < base.size(); i++) {
+            if (delta.removed().contains(i)) continue;
+            int shift = 0;
+            for (Shift s : delta.shifts()) {
+                if (i >= s.from() && i < s.to()) shift = s.delta();
+            }
+            result.add(base.get(i).shift(shift));
+        }
+        result.addAll(delta.added());
+        result.sort(Comparator.comparingInt(Correction::startOffset));
+        return result;
+    }
+
+    private static Correction correction(String original, String ruleId, int startOffset) {
+        return new Correction(original, original + "?", startOffset, original.length(), "Possible typo", ruleId, "TYPOS");
+    }
+}
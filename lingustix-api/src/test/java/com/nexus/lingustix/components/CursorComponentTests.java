@@ -0,0 +1,39 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorComponentTests {
+
+    private final CursorComponent cursorComponent = new CursorComponent();
+
+    @Test
+    void decodesWhatItEncoded() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 1, 12, 30);
+        UUID id = UUID.randomUUID();
+
+        String cursor = cursorComponent.encode(updatedAt, id);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(cursorComponent.decode(cursor, 2)).containsExactly(updatedAt.toString(), id.toString());
+    }
+
+    @Test
+    void returnsNullWithoutCursor() {
+        assertThat(cursorComponent.decode(null, 2)).isNull();
+        assertThat(cursorComponent.decode(" ", 2)).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> cursorComponent.decode("not base64!", 2)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> cursorComponent.decode(cursorComponent.encode("a", "b", "c"), 2))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.responses.Correction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FastCheckComponentTests {
+
+    private static final String TEXT = "Then i saw the the cat  sleeping .";
+
+    private final FastCheckComponent withoutDictionary = new FastCheckComponent(null, "en");
+
+    @Test
+    void runsEnglishRulesOnEnglishText() {
+        List<Correction> corrections = withoutDictionary.check(TEXT, "en-US");
+
+        assertThat(corrections).extracting(Correction::ruleId).containsExactly(
+                "I_LOWERCASE", "ENGLISH_WORD_REPEAT_RULE", "WHITESPACE_RULE", "COMMA_PARENTHESIS_WHITESPACE");
+        assertThat(corrections).allSatisfy(correction -> assertThat(
+                TEXT.substring(correction.startOffset(), correction.startOffset() + correction.length()))
+                .isEqualTo(correction.original()));
+    }
+
+    @Test
+    void runsOnlyLanguageIndependentRulesOtherwise() {
+        assertThat(withoutDictionary.check(TEXT, "de-DE")).extracting(Correction::ruleId).containsExactly("WHITESPACE_RULE");
+        assertThat(withoutDictionary.check(TEXT, null)).extracting(Correction::ruleId).containsExactly("WHITESPACE_RULE");
+    }
+
+    @Test
+    void checksSpellingInTheDictionaryLanguage(@TempDir Path directory) throws IOException {
+        Path dictionary = directory.resolve("words.txt");
+        Files.writeString(dictionary, "# words\nthe\ncat\nsat\non\nmat\n");
+        FastCheckComponent fastCheckComponent = new FastCheckComponent("file:" + dictionary, "en");
+
+        List<Correction> corrections = fastCheckComponent.check("Teh cat sat on the mta", "en");
+
+        assertThat(corrections).extracting(Correction::original, Correction::suggested)
+                .containsExactly(tuple("Teh", "The"), tuple("mta", "mat"));
+        assertThat(fastCheckComponent.check("Teh cat sat on the mta", "fr")).isEmpty();
+    }
+}
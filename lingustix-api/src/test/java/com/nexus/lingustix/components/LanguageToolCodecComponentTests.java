@@ -0,0 +1,75 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.LanguageToolComponent.DetectedLanguage;
+import com.nexus.lingustix.components.LanguageToolComponent.Match;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LanguageToolCodecComponentTests {
+
+    private final LanguageToolCodecComponent codec = new LanguageToolCodecComponent(JsonMapper.builder().build(), 2);
+
+    @Test
+    void encodesFormsLikeUrlEncoder() throws IOException {
+        String text = "Ein Straße, 5 € & 100% \"quoted\" text.\nNew line 😀 a-b_c*d~e " + "x".repeat(10_000);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("text", text);
+        fields.put("language", "de-DE");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.writeForm(fields, out);
+
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo(
+                "text=" + URLEncoder.encode(text, StandardCharsets.UTF_8) + "&language=de-DE");
+    }
+
+    @Test
+    void readsOnlyTheFieldsEvaluationsUse() throws IOException {
+        String json = """
+                {
+                  "software": {"name": "LanguageTool", "version": "6.8"},
+                  "language": {"name": "English (US)", "code": "en-US", "detectedLanguage": {"code": "en-US"}},
+                  "matches": [
+                    {
+                      "message": "Possible spelling mistake found.",
+                      "offset": 4,
+                      "length": 3,
+                      "replacements": [{"value": "the"}, {"value": "tea"}, {"value": "ten"}],
+                      "context": {"text": "Teh teh", "offset": 4, "length": 3},
+                      "rule": {"id": "MORFOLOGIK_RULE_EN_US", "urls": [{"value": "x"}],
+                               "category": {"id": "TYPOS", "name": "Possible Typo"}}
+                    },
+                    {"offset": 10, "length": 1, "replacements": []}
+                  ]
+                }
+                """;
+
+        Response response = codec.readResponse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.language()).isEqualTo(new DetectedLanguage("English (US)", "en-US"));
+        assertThat(response.matches()).containsExactly(
+                new Match(4, 3, "Possible spelling mistake found.", List.of("the", "tea"), "MORFOLOGIK_RULE_EN_US", "TYPOS"),
+                new Match(10, 1, null, List.of(), null, null));
+    }
+
+    @Test
+    void rejectsMalformedResponses() {
+        assertThatThrownBy(() -> codec.readResponse(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> codec.readResponse(new ByteArrayInputStream("{\"matches\": [".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IOException.class);
+    }
+}
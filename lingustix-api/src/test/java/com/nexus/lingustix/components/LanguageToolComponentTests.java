@@ -0,0 +1,296 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.ServiceUnavailableException;
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LanguageToolComponentTests {
+
+    private static final Response EMPTY = new Response(List.of(), null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void growsTheLimitOnFastResponses() {
+        LanguageToolComponent component = component(request -> EMPTY, 2, 60_000, 5, 10_000);
+
+        for (int i = 0; i < 10; i++) component.check(request("text", Priority.INTERACTIVE));
+
+        assertThat(gauge("languagetool.concurrency.limit")).isGreaterThan(4).isLessThan(6);
+    }
+
+    @Test
+    void shrinksTheLimitOnSlowResponses() {
+        LanguageToolComponent component = component(request -> {
+            sleep(5);
+            return EMPTY;
+        }, 8, 0, 5, 10_000);
+
+        component.check(request("text", Priority.INTERACTIVE));
+        component.check(request("text", Priority.INTERACTIVE));
+
+        assertThat(gauge("languagetool.concurrency.limit")).isEqualTo(4.5);
+    }
+
+    @Test
+    void opensTheCircuitAfterRepeatedFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        LanguageToolComponent component = component(request -> {
+            calls.incrementAndGet();
+            throw new ResourceAccessException("Connection refused");
+        }, 8, 60_000, 2, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> component.check(request("text", Priority.INTERACTIVE)))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+
+        assertThat(calls).hasValue(2);
+        assertThat(gauge("languagetool.circuit.open")).isEqualTo(1);
+    }
+
+    @Test
+    void closesTheCircuitWhenTheProbeSucceeds() {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        LanguageToolComponent component = component(request -> {
+            if (failing.get()) throw new ResourceAccessException("Connection refused");
+            return EMPTY;
+        }, 8, 60_000, 1, 0);
+
+        assertThatThrownBy(() -> component.check(request("text", Priority.INTERACTIVE)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(gauge("languagetool.circuit.open")).isEqualTo(1);
+
+        failing.set(false);
+        assertThat(component.check(request("text", Priority.INTERACTIVE))).isEqualTo(EMPTY);
+        assertThat(gauge("languagetool.circuit.open")).isZero();
+    }
+
+    @Test
+    void reopensTheCircuitForAFullPeriodWhenTheProbeIsCancelled() {
+        AtomicInteger calls = new AtomicInteger();
+        LanguageToolComponent component = component(request -> {
+            if (calls.incrementAndGet() == 2) Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Connection refused");
+        }, 8, 60_000, 1, 300);
+
+        assertThatThrownBy(() -> component.check(request("text", Priority.INTERACTIVE)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        sleep(350);
+        assertThatThrownBy(() -> component.check(request("probe", Priority.INTERACTIVE)))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Thread.interrupted()).isTrue();
+
+        assertThatThrownBy(() -> component.check(request("text", Priority.INTERACTIVE)))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("LanguageTool is unavailable");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void doesNotCountRejectedRequestsAsFailures() {
+        LanguageToolComponent component = component(request -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }, 8, 60_000, 1, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> component.check(request("text", Priority.INTERACTIVE)))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(gauge("languagetool.circuit.open")).isZero();
+    }
+
+    @Test
+    void grantsInteractiveRequestsBeforeBackgroundOnes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        LanguageToolComponent component = component(request -> {
+            if (request.text().equals("first")) await(release);
+            order.add(request.text());
+            return EMPTY;
+        }, 1, 60_000, 5, 10_000);
+
+        Future<?> first = executor.submit(() -> component.check(request("first", Priority.INTERACTIVE)));
+        awaitGauge("languagetool.concurrency.in-flight", 1);
+        Future<?> background = executor.submit(() -> component.check(request("background", Priority.BACKGROUND)));
+        awaitGauge("languagetool.queue.depth", 1);
+        Future<?> interactive = executor.submit(() -> component.check(request("interactive", Priority.INTERACTIVE)));
+        awaitGauge("languagetool.queue.depth", 2);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        background.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("first", "interactive", "background");
+    }
+
+    @Test
+    void doesNotStarveAccountsWithSmallTexts() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        LanguageToolComponent component = component(request -> {
+            if (request.text().equals("first")) await(release);
+            else order.add(request.text().startsWith("large") ? "large" : "small");
+            return EMPTY;
+        }, 1, 60_000, 5, 10_000);
+        UUID largeAccount = UUID.randomUUID();
+        UUID smallAccount = UUID.randomUUID();
+
+        List<Future<?>> checks = new ArrayList<>();
+        checks.add(executor.submit(() -> component.check(request("first", Priority.BACKGROUND))));
+        awaitGauge("languagetool.concurrency.in-flight", 1);
+        for (int i = 0; i < 3; i++) {
+            CheckRequest large = request("large" + "x".repeat(10_000), largeAccount);
+            checks.add(executor.submit(() -> component.check(large)));
+            awaitGauge("languagetool.queue.depth", i + 1);
+        }
+        for (int i = 0; i < 3; i++) {
+            CheckRequest small = request("small", smallAccount);
+            checks.add(executor.submit(() -> component.check(small)));
+            awaitGauge("languagetool.queue.depth", i + 4);
+        }
+
+        release.countDown();
+        for (Future<?> check : checks) check.get(5, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("small", "small", "small", "large", "large", "large");
+    }
+
+    @Test
+    void failsCallersThatWaitTooLong() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        LanguageToolComponent component = component(request -> {
+            await(release);
+            return EMPTY;
+        }, 1, 60_000, 5, 10_000);
+
+        Future<?> first = executor.submit(() -> component.check(request("first", Priority.INTERACTIVE)));
+        awaitGauge("languagetool.concurrency.in-flight", 1);
+
+        assertThatThrownBy(() -> component.check(request("second", Priority.INTERACTIVE)))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("LanguageTool is overloaded");
+        assertThat(gauge("languagetool.queue.depth")).isZero();
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void handsOutExtraPermitsOnlyWithinTheLimit() {
+        List<Boolean> granted = new CopyOnWriteArrayList<>();
+        LanguageToolComponent component = component(new FakeEngine(request -> EMPTY) {
+            @Override
+            public Response check(CheckRequest request, Permits permits) {
+                boolean first = permits.tryAcquire();
+                boolean second = permits.tryAcquire();
+                granted.add(first);
+                granted.add(second);
+                if (first) permits.release();
+                if (second) permits.release();
+                return EMPTY;
+            }
+        }, 2, 60_000, 5, 10_000);
+
+        component.check(request("text", Priority.INTERACTIVE));
+
+        assertThat(granted).containsExactly(true, false);
+        assertThat(gauge("languagetool.concurrency.in-flight")).isZero();
+    }
+
+    private LanguageToolComponent component(Function<CheckRequest, Response> check, int initialLimit,
+                                            long latencyThresholdMs, int failureThreshold, long openMs) {
+        return component(new FakeEngine(check), initialLimit, latencyThresholdMs, failureThreshold, openMs);
+    }
+
+    private LanguageToolComponent component(LanguageToolEngine engine, int initialLimit,
+                                            long latencyThresholdMs, int failureThreshold, long openMs) {
+        return new LanguageToolComponent(meterRegistry, engine, initialLimit, 1, 64, latencyThresholdMs,
+                200, 60_000, failureThreshold, openMs);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private void awaitGauge(String name, double value) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name) != value) {
+            if (System.nanoTime() > deadline) throw new AssertionError(name + " never reached " + value);
+            Thread.sleep(1);
+        }
+    }
+
+    private static CheckRequest request(String text, Priority priority) {
+        return new CheckRequest(text, "en-US", UUID.randomUUID(), priority, Set.of(), Set.of());
+    }
+
+    private static CheckRequest request(String text, UUID accountId) {
+        return new CheckRequest(text, "en-US", accountId, Priority.BACKGROUND, Set.of(), Set.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class FakeEngine implements LanguageToolEngine {
+        private final Function<CheckRequest, Response> check;
+
+        private FakeEngine(Function<CheckRequest, Response> check) {
+            this.check = check;
+        }
+
+        @Override
+        public Response check(CheckRequest request, Permits permits) {
+            return check.apply(request);
+        }
+
+        @Override
+        public boolean supports(String language) {
+            return true;
+        }
+    }
+}
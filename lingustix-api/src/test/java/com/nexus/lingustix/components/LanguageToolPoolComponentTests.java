@@ -0,0 +1,117 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LanguageToolPoolComponentTests {
+
+    private FakeBackend english;
+    private FakeBackend german;
+    private LanguageToolPoolComponent pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        english = new FakeBackend("[{\"name\":\"English (US)\",\"code\":\"en\",\"longCode\":\"en-US\"}]");
+        german = new FakeBackend("[{\"name\":\"German (Germany)\",\"code\":\"de\",\"longCode\":\"de-DE\"}]");
+        pool = new LanguageToolPoolComponent(new SimpleMeterRegistry(),
+                new LanguageToolCodecComponent(JsonMapper.builder().build(), 3),
+                new String[]{english.url(), german.url()}, 2000, 5000, 3, 3.0, 30_000, false, 0.95);
+    }
+
+    @AfterEach
+    void tearDown() {
+        english.server.stop(0);
+        german.server.stop(0);
+    }
+
+    @Test
+    void routesRequestsOnlyToBackendsSupportingTheLanguage() {
+        pool.checkHealth();
+
+        for (int i = 0; i < 20; i++) pool.check(request("de-DE"), noPermits());
+        for (int i = 0; i < 20; i++) pool.check(request("en-US"), noPermits());
+
+        assertThat(german.checks).hasValue(20);
+        assertThat(english.checks).hasValue(20);
+    }
+
+    @Test
+    void supportsTheLanguagesOfAnyBackend() {
+        pool.checkHealth();
+
+        assertThat(pool.supports("de-DE")).isTrue();
+        assertThat(pool.supports("EN")).isTrue();
+        assertThat(pool.supports("fr-FR")).isFalse();
+    }
+
+    @Test
+    void spreadsAutoDetectedRequestsOverAllBackends() {
+        pool.checkHealth();
+
+        for (int i = 0; i < 40; i++) pool.check(request("auto"), noPermits());
+
+        assertThat(german.checks.get()).isPositive();
+        assertThat(english.checks.get()).isPositive();
+    }
+
+    private static CheckRequest request(String language) {
+        return new CheckRequest("text", language, UUID.randomUUID(), Priority.INTERACTIVE, Set.of(), Set.of());
+    }
+
+    private static LanguageToolEngine.Permits noPermits() {
+        return new LanguageToolEngine.Permits() {
+            @Override
+            public boolean tryAcquire() {
+                return false;
+            }
+
+            @Override
+            public void release() {
+            }
+        };
+    }
+
+    private static final class FakeBackend {
+        private final HttpServer server;
+        private final AtomicInteger checks = new AtomicInteger();
+
+        private FakeBackend(String languages) throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v2/languages", exchange -> respond(exchange, languages));
+            server.createContext("/v2/check", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                checks.incrementAndGet();
+                respond(exchange, "{\"matches\":[]}");
+            });
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/v2";
+        }
+
+        private static void respond(HttpExchange exchange, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.requests.TextOperation;
+import com.nexus.lingustix.models.responses.LiveEditEvent;
+import com.nexus.lingustix.services.CompositionService;
+import com.nexus.lingustix.services.EvaluationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LiveEditingComponentTests {
+
+    private static final String CONTENT = "The first line.\nThe second line.";
+
+    private final UUID compositionId = UUID.randomUUID();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CompositionService compositionService = mock(CompositionService.class);
+    private LiveEditingComponent liveEditingComponent;
+
+    @BeforeEach
+    void setUp() {
+        when(compositionService.getByIdWithContent(compositionId)).thenReturn(Optional.of(composition(CONTENT, 7)));
+        liveEditingComponent = new LiveEditingComponent(compositionService, mock(EvaluationService.class),
+                new CorrectionDeltaComponent(new TextSegmentComponent(), 100, 60_000), new CorrectionCodecComponent(), jsonMapper);
+        ReflectionTestUtils.setField(liveEditingComponent, "evaluationDelayMs", 60_000L);
+    }
+
+    @Test
+    void sendsASnapshotOnJoin() {
+        Client client = connect("a");
+
+        assertThat(client.events.getFirst()).isEqualTo(LiveEditEvent.snapshot(0, CONTENT));
+        assertThat(liveEditingComponent.isOpen(compositionId)).isTrue();
+    }
+
+    @Test
+    void acknowledgesRelaysAndFlushesEdits() throws Exception {
+        Client author = connect("a");
+        Client reader = connect("b");
+        List<TextOperation> operations = List.of(new TextOperation(4, null, null), new TextOperation(null, "very ", null));
+
+        author.send(0, operations);
+        liveEditingComponent.flushAll();
+
+        assertThat(author.events).contains(LiveEditEvent.ack(1));
+        assertThat(reader.events).contains(LiveEditEvent.edit(1, operations));
+        verify(compositionService).patchContent(compositionId, 7, TextOperation.diff(CONTENT, "The very first line.\nThe second line."));
+    }
+
+    @Test
+    void rejectsStaleEditsWithASnapshot() throws Exception {
+        Client client = connect("a");
+
+        client.send(3, List.of(new TextOperation(null, "x", null)));
+
+        assertThat(client.events).contains(LiveEditEvent.error("Edit is based on a stale version"));
+        assertThat(client.events).filteredOn(LiveEditEvent.snapshot(0, CONTENT)::equals).hasSize(2);
+    }
+
+    @Test
+    void rebasesUnsavedEditsOntoChangesMadeElsewhere() throws Exception {
+        String stored = "The first line.\nThe second line, changed elsewhere.";
+        String merged = "The very first line.\nThe second line, changed elsewhere.";
+        when(compositionService.patchContent(eq(compositionId), eq(7L), any())).thenThrow(new ConflictException("stale"));
+        when(compositionService.patchContent(eq(compositionId), eq(8L), any())).thenReturn(composition(merged, 9));
+        Client client = connect("a");
+        when(compositionService.getByIdWithContent(compositionId)).thenReturn(Optional.of(composition(stored, 8)));
+
+        client.send(0, List.of(new TextOperation(4, null, null), new TextOperation(null, "very ", null)));
+        liveEditingComponent.flushAll();
+
+        verify(compositionService).patchContent(compositionId, 8, TextOperation.diff(stored, merged));
+        assertThat(client.events).contains(LiveEditEvent.snapshot(2, merged));
+        assertThat(client.events).noneMatch(event -> event.type().equals("conflict"));
+    }
+
+    @Test
+    void sendsUnsavedTextBackWhenBothChangedTheSamePlace() throws Exception {
+        String stored = "The first row.\nThe second line.";
+        when(compositionService.patchContent(eq(compositionId), eq(7L), any())).thenThrow(new ConflictException("stale"));
+        Client client = connect("a");
+        when(compositionService.getByIdWithContent(compositionId)).thenReturn(Optional.of(composition(stored, 8)));
+
+        client.send(0, List.of(new TextOperation(10, null, null), new TextOperation(null, null, 4),
+                new TextOperation(null, "sentence", null)));
+        liveEditingComponent.flushAll();
+
+        assertThat(client.events).anySatisfy(event -> {
+            assertThat(event.type()).isEqualTo("conflict");
+            assertThat(event.content()).isEqualTo("The first sentence.\nThe second line.");
+        });
+        assertThat(client.events).contains(LiveEditEvent.snapshot(2, stored));
+        verify(compositionService, never()).patchContent(eq(compositionId), eq(8L), any());
+    }
+
+    @Test
+    void flushesAndReleasesWhenTheLastSessionCloses() throws Exception {
+        when(compositionService.patchContent(eq(compositionId), anyLong(), any())).thenReturn(composition("x", 8));
+        Client first = connect("a");
+        Client second = connect("b");
+        first.send(0, List.of(new TextOperation(null, "Edited. ", null)));
+
+        liveEditingComponent.afterConnectionClosed(first.session, CloseStatus.NORMAL);
+        verify(compositionService, never()).patchContent(any(), anyLong(), any());
+        assertThat(liveEditingComponent.isOpen(compositionId)).isTrue();
+
+        liveEditingComponent.afterConnectionClosed(second.session, CloseStatus.NORMAL);
+        verify(compositionService, times(1)).patchContent(eq(compositionId), eq(7L), any());
+        assertThat(liveEditingComponent.isOpen(compositionId)).isFalse();
+    }
+
+    private Client connect(String id) {
+        Client client = new Client(id);
+        liveEditingComponent.afterConnectionEstablished(client.session);
+        return client;
+    }
+
+    private Composition composition(String content, long contentVersion) {
+        return Composition.builder().id(compositionId).content(content).contentVersion(contentVersion).build();
+    }
+
+    private class Client {
+        private final WebSocketSession session = mock(WebSocketSession.class);
+        private final List<LiveEditEvent> events = new CopyOnWriteArrayList<>();
+
+        private Client(String id) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put(LiveEditingComponent.COMPOSITION_ID, compositionId);
+            attributes.put(LiveEditingComponent.ACCOUNT_ID, UUID.randomUUID());
+            when(session.getId()).thenReturn(id);
+            when(session.isOpen()).thenReturn(true);
+            when(session.getAttributes()).thenReturn(attributes);
+            try {
+                doAnswer(invocation -> {
+                    TextMessage message = invocation.getArgument(0);
+                    events.add(jsonMapper.readValue(message.getPayload(), LiveEditEvent.class));
+                    return null;
+                }).when(session).sendMessage(any());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void send(long baseVersion, List<TextOperation> operations) throws Exception {
+            Map<String, Object> edit = Map.of("type", "edit", "baseVersion", baseVersion, "operations", operations);
+            liveEditingComponent.handleTextMessage(session, new TextMessage(jsonMapper.writeValueAsString(edit)));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.nexus.lingustix.components;
+
+import com.nexus.lingustix.models.entities.RevokedToken;
+import com.nexus.lingustix.repositories.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LiveTicketComponentTests {
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID compositionId = UUID.randomUUID();
+    private final Set<String> revoked = new HashSet<>();
+
+    private JwtComponent jwtComponent;
+    private LiveTicketComponent liveTicketComponent;
+
+    @BeforeEach
+    void setUp() {
+        jwtComponent = new JwtComponent();
+        ReflectionTestUtils.setField(jwtComponent, "jwtSecret",
+                "Zm9yLW15LXByb2plY3QtbGluZ3VzdGl4LXNlY3JldC1rZXktMjAyNi12ZXJzaW9uLWJhc2U2NA==");
+
+        // Mirrors the unique token column: a second insert of the same token fails
+        RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+        when(repository.existsByToken(anyString())).thenAnswer(invocation -> revoked.contains(invocation.<String>getArgument(0)));
+        when(repository.saveAndFlush(any(RevokedToken.class))).thenAnswer(invocation -> {
+            RevokedToken token = invocation.getArgument(0);
+            if (!revoked.add(token.getToken())) throw new DataIntegrityViolationException("duplicate token");
+            return token;
+        });
+
+        liveTicketComponent = new LiveTicketComponent(jwtComponent, repository);
+        ReflectionTestUtils.setField(liveTicketComponent, "expirationMs", 30_000L);
+    }
+
+    @Test
+    void redeemsATicketOnce() {
+        String ticket = liveTicketComponent.issue(accountId, compositionId).token();
+
+        assertThat(liveTicketComponent.redeem(ticket))
+                .contains(new LiveTicketComponent.Ticket(accountId, compositionId));
+        assertThat(liveTicketComponent.redeem(ticket)).isEmpty();
+    }
+
+    @Test
+    void rejectsExpiredTickets() {
+        ReflectionTestUtils.setField(liveTicketComponent, "expirationMs", -1_000L);
+        String ticket = liveTicketComponent.issue(accountId, compositionId).token();
+
+        assertThat(liveTicketComponent.redeem(ticket)).isEmpty();
+        assertThat(revoked).isEmpty();
+    }
+
+    @Test
+    void ticketsAndAccessTokensAreNotInterchangeable() {
+        String ticket = liveTicketComponent.issue(accountId, compositionId).token();
+        String accessToken = jwtComponent.createToken(new HashMap<>(), accountId.toString(), 30_000L);
+
+        assertThat(jwtComponent.isTokenValid(ticket)).isFalse();
+        assertThat(jwtComponent.isTokenValid(accessToken)).isTrue();
+        assertThat(liveTicketComponent.redeem(accessToken)).isEmpty();
+    }
+}
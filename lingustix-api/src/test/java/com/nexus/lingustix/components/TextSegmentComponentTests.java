@@ -0,0 +1,42 @@
+package com.nexus.lingustix.components;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextSegmentComponentTests {
+
+    private static final String ENGLISH = """
+            The committee met on Tuesday to review the budget for the coming year. After a long discussion \
+            about rising costs, the members agreed to postpone the new library wing and to spend the money \
+            on repairing the roof of the town hall, which has been leaking since the storms last winter.""";
+
+    private static final String OTHER_ENGLISH = """
+            Our hiking trip started early in the morning when the fog still covered the valley. We followed \
+            the river upstream, crossed two wooden bridges and reached the mountain hut just before the rain \
+            began, tired but happy that the weather had held for most of the day.""";
+
+    private static final String GERMAN = """
+            Der Ausschuss traf sich am Dienstag, um den Haushalt für das kommende Jahr zu prüfen. Nach einer \
+            langen Diskussion über steigende Kosten einigten sich die Mitglieder darauf, den neuen Flügel der \
+            Bibliothek zu verschieben und das Geld für die Reparatur des Rathausdachs auszugeben.""";
+
+    private final TextSegmentComponent textSegmentComponent = new TextSegmentComponent();
+
+    @Test
+    void sketchesOfLightlyEditedTextStayClose() {
+        String edited = ENGLISH.replace("Tuesday", "Wednesday").replace("long", "lengthy");
+
+        assertThat(distance(ENGLISH, edited)).isLessThanOrEqualTo(6);
+        assertThat(distance(ENGLISH, ENGLISH.toUpperCase())).isZero();
+    }
+
+    @Test
+    void sketchesOfAnotherLanguageAreFartherApartThanAnotherTopic() {
+        assertThat(distance(ENGLISH, GERMAN)).isGreaterThan(12).isGreaterThan(distance(ENGLISH, OTHER_ENGLISH));
+    }
+
+    private int distance(String a, String b) {
+        return Long.bitCount(textSegmentComponent.sketch(a) ^ textSegmentComponent.sketch(b));
+    }
+}
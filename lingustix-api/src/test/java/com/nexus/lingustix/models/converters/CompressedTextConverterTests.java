@@ -0,0 +1,45 @@
+package com.nexus.lingustix.models.converters;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextConverterTests {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    void storesShortTextRaw() {
+        byte[] data = converter.convertToDatabaseColumn("Short text, ünïcode");
+
+        assertThat(data[0]).isEqualTo((byte) 0);
+        assertThat(converter.convertToEntityAttribute(data)).isEqualTo("Short text, ünïcode");
+    }
+
+    @Test
+    void compressesLongText() {
+        String text = "The quick brown fox jumps over the lazy dog. ".repeat(200);
+
+        byte[] data = converter.convertToDatabaseColumn(text);
+
+        assertThat(data[0]).isEqualTo((byte) 1);
+        assertThat(data.length).isLessThan(text.length() / 10);
+        assertThat(converter.convertToEntityAttribute(data)).isEqualTo(text);
+    }
+
+    @Test
+    void roundTripsEmptyTextAndNull() {
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(""))).isEmpty();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownFormats() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[0])).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[]{7, 1})).isInstanceOf(UncheckedIOException.class);
+    }
+}
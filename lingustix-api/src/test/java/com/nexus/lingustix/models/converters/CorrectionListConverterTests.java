@@ -0,0 +1,58 @@
+package com.nexus.lingustix.models.converters;
+
+import com.nexus.lingustix.models.responses.Correction;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrectionListConverterTests {
+
+    private final CorrectionListConverter converter = new CorrectionListConverter();
+
+    @Test
+    void roundTripsCorrections() {
+        List<Correction> corrections = List.of(
+                new Correction("teh", "the", 0, 3, "Possible spelling mistake", "MORFOLOGIK_RULE_EN_US", "TYPOS"),
+                new Correction("a", null, 12, 1, null, null, null),
+                new Correction("naïve", "naive", 20, 5, "Ünïcode", "RULE", "STYLE"));
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(corrections))).isEqualTo(corrections);
+    }
+
+    @Test
+    void roundTripsEmptyListAndNull() {
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(List.of()))).isEmpty();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void readsVersionOneRecordsWithoutRuleIds() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(1);
+            out.writeInt(1);
+            writeString(out, "teh");
+            writeString(out, "the");
+            out.writeInt(4);
+            out.writeInt(3);
+            writeString(out, "Possible spelling mistake");
+        }
+
+        assertThat(converter.convertToEntityAttribute(bytes.toByteArray()))
+                .containsExactly(new Correction("teh", "the", 4, 3, "Possible spelling mistake", null, null));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,32 @@
+package com.nexus.lingustix.models.converters;
+
+import com.nexus.lingustix.models.requests.TextOperation;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextOperationListConverterTests {
+
+    private final TextOperationListConverter converter = new TextOperationListConverter();
+
+    @Test
+    void roundTripsOperations() {
+        List<TextOperation> operations = List.of(
+                new TextOperation(12, null, null),
+                new TextOperation(null, null, 4),
+                new TextOperation(null, "grüße 😀", null),
+                new TextOperation(null, "", null));
+
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(operations))).isEqualTo(operations);
+    }
+
+    @Test
+    void rejectsUnknownFormats() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[]{9, 0, 0, 0, 0}))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.nexus.lingustix.models.requests;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppliedCorrectionTests {
+
+    @Test
+    void appliesAllCorrectionsAgainstTheSameBase() {
+        String base = "Teh cat sat on teh mat";
+        List<AppliedCorrection> corrections = List.of(
+                new AppliedCorrection(15, 3, "the", "teh"),
+                new AppliedCorrection(0, 3, "The", "Teh"),
+                new AppliedCorrection(4, 3, "big cat", null));
+
+        assertThat(AppliedCorrection.apply(base, corrections)).isEqualTo("The big cat sat on the mat");
+    }
+
+    @Test
+    void rejectsOverlappingCorrections() {
+        assertThatThrownBy(() -> AppliedCorrection.apply("abcdef", List.of(
+                new AppliedCorrection(0, 3, "x", null),
+                new AppliedCorrection(2, 2, "y", null))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsCorrectionsPastTheEnd() {
+        assertThatThrownBy(() -> AppliedCorrection.apply("abc", List.of(new AppliedCorrection(4, 0, "x", null))))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> AppliedCorrection.apply("abc", List.of(new AppliedCorrection(2, Integer.MAX_VALUE, "x", null))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsCorrectionsWhoseOriginalChanged() {
+        assertThatThrownBy(() -> AppliedCorrection.apply("The cat", List.of(new AppliedCorrection(4, 3, "dog", "rat"))))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void rejectsOriginalsLongerThanTheReplacedText() {
+        assertThatThrownBy(() -> AppliedCorrection.apply("The cat sat", List.of(new AppliedCorrection(4, 3, "dog", "cat sat"))))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void checksTheOriginalOfInsertions() {
+        assertThat(AppliedCorrection.apply("The cat", List.of(new AppliedCorrection(4, 0, "big ", "")))).isEqualTo("The big cat");
+        assertThatThrownBy(() -> AppliedCorrection.apply("The cat", List.of(new AppliedCorrection(4, 0, "big ", "cat"))))
+                .isInstanceOf(ConflictException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.nexus.lingustix.models.requests;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextOperationTests {
+
+    @Test
+    void appliesOperationsLeftToRightAndRetainsTheRest() {
+        List<TextOperation> operations = List.of(
+                new TextOperation(4, null, null),
+                new TextOperation(null, null, 5),
+                new TextOperation(null, "slow", null));
+
+        assertThat(TextOperation.apply("The quick fox jumps", operations)).isEqualTo("The slow fox jumps");
+    }
+
+    @Test
+    void rejectsRetainAndDeletePastTheEnd() {
+        assertThatThrownBy(() -> TextOperation.apply("abc", List.of(new TextOperation(4, null, null))))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TextOperation.apply("abc", List.of(
+                new TextOperation(2, null, null), new TextOperation(null, null, Integer.MAX_VALUE))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsEmptyOperations() {
+        assertThatThrownBy(() -> TextOperation.apply("abc", List.of(new TextOperation(null, null, null))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsOperationsWithSeveralFields() {
+        assertThatThrownBy(() -> TextOperation.apply("abc", List.of(new TextOperation(1, "x", null))))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TextOperation.apply("abc", List.of(new TextOperation(null, "x", 1))))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> TextOperation.apply("abc", List.of(new TextOperation(1, "x", 1))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void diffRetainsCommonPrefixAndSuffix() {
+        List<TextOperation> operations = TextOperation.diff("The quick fox", "The slow fox");
+
+        assertThat(operations).containsExactly(
+                new TextOperation(4, null, null),
+                new TextOperation(null, null, 5),
+                new TextOperation(null, "slow", null));
+    }
+
+    @Test
+    void diffOnlyRetainsEqualText() {
+        assertThat(TextOperation.diff("same", "same")).containsExactly(new TextOperation(4, null, null));
+    }
+
+    @Test
+    void diffRoundTrips() {
+        String[][] pairs = {
+                {"", "abc"}, {"abc", ""}, {"aaa", "aaaa"}, {"abcabc", "abc"},
+                {"Hello world", "Hello, wonderful world"}, {"x😀y", "x😁y"}
+        };
+        for (String[] pair : pairs) {
+            assertThat(TextOperation.apply(pair[0], TextOperation.diff(pair[0], pair[1]))).isEqualTo(pair[1]);
+        }
+    }
+
+    @Test
+    void diffDoesNotSplitSurrogatePairs() {
+        List<TextOperation> operations = TextOperation.diff("x😀y", "x😁y");
+
+        assertThat(operations).extracting(TextOperation::insert).contains("😁");
+    }
+
+    @Test
+    void mergesEditsOfDifferentRegions() {
+        String base = "one two three";
+
+        assertThat(TextOperation.merge(base, "one 2 three", "one two 3")).isEqualTo("one 2 3");
+        assertThat(TextOperation.merge(base, "one two 3", "1 two three")).isEqualTo("1 two 3");
+        assertThat(TextOperation.merge(base, base, "one two 3")).isEqualTo("one two 3");
+        assertThat(TextOperation.merge(base, "one 2 three", base)).isEqualTo("one 2 three");
+    }
+
+    @Test
+    void doesNotMergeEditsOfTheSameRegion() {
+        assertThat(TextOperation.merge("one two three", "one 2 three", "one deux three")).isNull();
+    }
+}
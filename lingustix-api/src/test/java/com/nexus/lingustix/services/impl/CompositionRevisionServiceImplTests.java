@@ -0,0 +1,107 @@
+package com.nexus.lingustix.services.impl;
+
+import com.nexus.lingustix.components.TextSegmentComponent;
+import com.nexus.lingustix.models.entities.Composition;
+import com.nexus.lingustix.models.entities.CompositionRevision;
+import com.nexus.lingustix.repositories.CompositionRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompositionRevisionServiceImplTests {
+
+    private final List<CompositionRevision> revisions = new ArrayList<>();
+    private final Composition composition = Composition.builder().id(UUID.randomUUID()).build();
+    private CompositionRevisionServiceImpl compositionRevisionService;
+
+    @BeforeEach
+    void setUp() {
+        CompositionRevisionRepository repository = mock(CompositionRevisionRepository.class);
+        when(repository.save(any())).thenAnswer(invocation -> {
+            revisions.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(repository.findTopByCompositionIdOrderByVersionDesc(any())).thenAnswer(invocation ->
+                revisions.stream().max(Comparator.comparingLong(CompositionRevision::getVersion)));
+        when(repository.findChain(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long from = invocation.getArgument(1);
+            long to = invocation.getArgument(2);
+            return revisions.stream()
+                    .filter(revision -> revision.getVersion() >= from && revision.getVersion() <= to)
+                    .sorted(Comparator.comparingLong(CompositionRevision::getVersion))
+                    .toList();
+        });
+        when(repository.countByBaseVersion(any(), anyLong())).thenAnswer(invocation -> {
+            long baseVersion = invocation.getArgument(1);
+            return revisions.stream().filter(revision -> revision.getBaseVersion() == baseVersion).count();
+        });
+
+        compositionRevisionService = new CompositionRevisionServiceImpl(repository, new TextSegmentComponent());
+        ReflectionTestUtils.setField(compositionRevisionService, "snapshotInterval", 3);
+        ReflectionTestUtils.setField(compositionRevisionService, "deltaRetentionDays", 30);
+    }
+
+    @Test
+    void replaysEveryRevisionOfAChain() {
+        List<String> contents = List.of(
+                "The quick brown fox jumps over the lazy dog.",
+                "The quick brown fox jumps over the lazy cat.",
+                "The quick red fox jumps over the lazy cat.",
+                "The quick red fox leaps over the lazy cat.",
+                "A quick red fox leaps over the lazy cat.",
+                "A quick red fox leaps over a lazy cat.");
+        String previous = null;
+        for (String content : contents) {
+            save(content, previous);
+            previous = content;
+        }
+
+        assertThat(revisions).extracting(CompositionRevision::isSnapshot)
+                .containsExactly(true, false, false, true, false, false);
+        for (int i = 0; i < contents.size(); i++) {
+            assertThat(compositionRevisionService.getContent(revisions.get(i))).isEqualTo(contents.get(i));
+        }
+    }
+
+    @Test
+    void startsANewChainWhenTheContentChangedUnrecorded() {
+        save("The quick brown fox jumps over the lazy dog.", null);
+        save("The quick brown fox jumps over the lazy cat!", "The quick brown fox jumps over the lazy cow.");
+
+        assertThat(revisions).extracting(CompositionRevision::isSnapshot).containsExactly(true, true);
+        assertThat(compositionRevisionService.getContent(revisions.get(1))).isEqualTo("The quick brown fox jumps over the lazy cat!");
+    }
+
+    @Test
+    void storesLargeRewritesAsSnapshots() {
+        save("The quick brown fox jumps over the lazy dog.", null);
+        save("Something else entirely, with nothing in common at all.", "The quick brown fox jumps over the lazy dog.");
+
+        assertThat(revisions).extracting(CompositionRevision::isSnapshot).containsExactly(true, true);
+    }
+
+    @Test
+    void skipsVersionsAlreadyRecorded() {
+        save("First content", null);
+        compositionRevisionService.record(composition, "First content");
+
+        assertThat(revisions).hasSize(1);
+    }
+
+    private void save(String content, String previous) {
+        composition.setContent(content);
+        composition.setContentVersion(composition.getContentVersion() + 1);
+        compositionRevisionService.record(composition, previous);
+    }
+}
@@ -0,0 +1,146 @@
+package com.nexus.lingustix.services.impl;
+
+import com.nexus.lingustix.components.CursorComponent;
+import com.nexus.lingustix.components.GlobalExceptionComponent.BadRequestException;
+import com.nexus.lingustix.components.TextSegmentComponent;
+import com.nexus.lingustix.models.responses.CursorPage;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
+import com.nexus.lingustix.repositories.CompositionRepository;
+import com.nexus.lingustix.repositories.CompositionRepository.Summary;
+import com.nexus.lingustix.services.AccountService;
+import com.nexus.lingustix.services.CompositionRevisionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompositionServiceImplTests {
+
+    private static final Comparator<Summary> NEWEST_FIRST = Comparator.comparing(Summary::getUpdatedAt)
+            .thenComparing(Summary::getId).reversed();
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final CursorComponent cursorComponent = new CursorComponent();
+    private final List<Summary> summaries = new ArrayList<>();
+    private CompositionServiceImpl compositionService;
+
+    @BeforeEach
+    void setUp() {
+        // Answers the keyset queries like the database: newest first, ties broken by descending id
+        CompositionRepository repository = mock(CompositionRepository.class);
+        when(repository.findSummariesByOwnerId(any(), any())).thenAnswer(invocation ->
+                summaries.stream().sorted(NEWEST_FIRST).limit(invocation.<Limit>getArgument(1).max()).toList());
+        when(repository.findSummariesByOwnerIdAfter(any(), any(), any(), any())).thenAnswer(invocation -> {
+            LocalDateTime updatedAt = invocation.getArgument(1);
+            UUID id = invocation.getArgument(2);
+            return summaries.stream()
+                    .filter(summary -> summary.getUpdatedAt().isBefore(updatedAt)
+                            || summary.getUpdatedAt().equals(updatedAt) && summary.getId().compareTo(id) < 0)
+                    .sorted(NEWEST_FIRST)
+                    .limit(invocation.<Limit>getArgument(3).max())
+                    .toList();
+        });
+
+        compositionService = new CompositionServiceImpl(repository, mock(CompositionBodyRepository.class),
+                mock(AccountService.class), mock(CompositionRevisionService.class), new TextSegmentComponent(),
+                cursorComponent, null);
+    }
+
+    @Test
+    void pagesThroughEverySummaryOnce() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < 5; i++) summaries.add(summary(now.minusMinutes(i)));
+
+        List<Summary> seen = readAll(2);
+
+        assertThat(seen).containsExactlyElementsOf(summaries.stream().sorted(NEWEST_FIRST).toList());
+    }
+
+    @Test
+    void endsWithoutACursorOnTheLastPage() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < 4; i++) summaries.add(summary(now.minusMinutes(i)));
+
+        CursorPage<Summary> first = compositionService.getSummariesByOwner(ownerId, null, 2);
+        CursorPage<Summary> last = compositionService.getSummariesByOwner(ownerId, first.nextCursor(), 2);
+
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(last.content()).hasSize(2);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void breaksTiesOnEqualTimestampsById() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < 5; i++) summaries.add(summary(now));
+
+        List<Summary> seen = readAll(2);
+
+        assertThat(seen).doesNotHaveDuplicates().hasSize(5);
+        assertThat(seen).extracting(Summary::getId)
+                .isSortedAccordingTo(Comparator.<UUID>naturalOrder().reversed());
+    }
+
+    @Test
+    void rejectsInvalidCursors() {
+        assertThatThrownBy(() -> compositionService.getSummariesByOwner(ownerId, "not a cursor", 2))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> compositionService.getSummariesByOwner(ownerId, cursorComponent.encode("yesterday", UUID.randomUUID()), 2))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> compositionService.getSummariesByOwner(ownerId, cursorComponent.encode(LocalDateTime.now(), "not-an-id"), 2))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<Summary> readAll(int size) {
+        List<Summary> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Summary> page = compositionService.getSummariesByOwner(ownerId, cursor, size);
+            seen.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private static Summary summary(LocalDateTime updatedAt) {
+        return new TestSummary(UUID.randomUUID(), "Title", updatedAt, 0, "");
+    }
+
+    private record TestSummary(UUID id, String title, LocalDateTime updatedAt, Integer wordCount, String excerpt) implements Summary {
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        @Override
+        public Integer getWordCount() {
+            return wordCount;
+        }
+
+        @Override
+        public String getExcerpt() {
+            return excerpt;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.nexus.lingustix.services.impl;
+
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
+import com.nexus.lingustix.models.entities.EvaluationJob;
+import com.nexus.lingustix.repositories.AccountRepository;
+import com.nexus.lingustix.repositories.CompositionRepository;
+import com.nexus.lingustix.repositories.EvaluationJobRepository;
+import com.nexus.lingustix.services.EvaluationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EvaluationJobServiceImplTests {
+
+    private static final long CLAIM_TIMEOUT_MS = 60_000;
+
+    private final List<UUID> compositionIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private final Map<UUID, AtomicInteger> evaluations = new ConcurrentHashMap<>();
+    private final Set<UUID> conflicting = ConcurrentHashMap.newKeySet();
+    private EvaluationJob job;
+    private EvaluationJobRepository repository;
+    private EvaluationService evaluationService;
+
+    @BeforeEach
+    void setUp() {
+        job = EvaluationJob.builder()
+                .id(UUID.randomUUID())
+                .status(EvaluationJob.Status.RUNNING)
+                .compositionIds(compositionIds)
+                .total(compositionIds.size())
+                .completed(1)
+                .claimedBy("crashed-node")
+                .heartbeatAt(LocalDateTime.now())
+                .build();
+
+        // A single job row; every update holds its lock, like the conditional UPDATEs of the real repository
+        repository = mock(EvaluationJobRepository.class);
+        when(repository.findUnclaimedIds(anyCollection(), any())).thenAnswer(invocation -> {
+            synchronized (job) {
+                return isUnclaimed(invocation.getArgument(0), invocation.getArgument(1)) ? List.of(job.getId()) : List.of();
+            }
+        });
+        when(repository.claim(any(), anyString(), anyCollection(), any(), any())).thenAnswer(invocation -> {
+            synchronized (job) {
+                if (!isUnclaimed(invocation.getArgument(2), invocation.getArgument(3))) return 0;
+                job.setClaimedBy(invocation.getArgument(1));
+                job.setHeartbeatAt(invocation.getArgument(4));
+                return 1;
+            }
+        });
+        when(repository.findCompositionIdsById(any())).thenAnswer(invocation -> job.getCompositionIds());
+        doAnswer(invocation -> update(invocation.getArgument(1), () -> {
+            job.setStatus(invocation.getArgument(2));
+            job.setCompleted(0);
+            job.setFailed(0);
+        })).when(repository).start(any(), anyString(), any(), any());
+        doAnswer(invocation -> update(invocation.getArgument(1), () -> job.setCompleted(job.getCompleted() + 1)))
+                .when(repository).incrementCompleted(any(), anyString(), any());
+        doAnswer(invocation -> update(invocation.getArgument(1), () -> job.setFailed(job.getFailed() + 1)))
+                .when(repository).incrementFailed(any(), anyString(), any());
+        doAnswer(invocation -> update(invocation.getArgument(1), () -> job.setStatus(invocation.getArgument(2))))
+                .when(repository).updateStatus(any(), anyString(), any(), any());
+
+        evaluationService = mock(EvaluationService.class);
+        when(evaluationService.create(any(), eq(Priority.BACKGROUND))).thenAnswer(invocation -> {
+            UUID compositionId = invocation.getArgument(0);
+            evaluations.computeIfAbsent(compositionId, id -> new AtomicInteger()).incrementAndGet();
+            if (conflicting.contains(compositionId)) throw new ConflictException("Evaluation was superseded by a newer request");
+            return List.of();
+        });
+    }
+
+    @Test
+    void onlyOneNodeClaimsAStaleJob() throws Exception {
+        job.setHeartbeatAt(LocalDateTime.now().minusMinutes(5));
+        EvaluationJobServiceImpl first = service();
+        EvaluationJobServiceImpl second = service();
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread a = Thread.ofVirtual().start(() -> resumeAfter(start, first));
+        Thread b = Thread.ofVirtual().start(() -> resumeAfter(start, second));
+        start.countDown();
+        a.join();
+        b.join();
+        awaitStatus(EvaluationJob.Status.COMPLETED);
+
+        assertThat(job.getClaimedBy()).isIn(node(first), node(second));
+        assertThat(job.getCompleted()).isEqualTo(compositionIds.size());
+        assertThat(compositionIds).allSatisfy(id -> assertThat(evaluations.get(id)).hasValue(1));
+    }
+
+    @Test
+    void resumesAJobOnlyOnceItsClaimExpired() throws Exception {
+        EvaluationJobServiceImpl service = service();
+
+        service.resumeUnfinished();
+        assertThat(job.getClaimedBy()).isEqualTo("crashed-node");
+        assertThat(evaluations).isEmpty();
+
+        job.setHeartbeatAt(LocalDateTime.now().minus(CLAIM_TIMEOUT_MS + 1_000, ChronoUnit.MILLIS));
+        service.resumeUnfinished();
+        awaitStatus(EvaluationJob.Status.COMPLETED);
+
+        assertThat(job.getClaimedBy()).isEqualTo(node(service));
+        assertThat(job.getCompleted()).isEqualTo(compositionIds.size());
+        assertThat(job.getFailed()).isZero();
+    }
+
+    @Test
+    void countsACompositionAsFailedAfterRepeatedConflicts() throws Exception {
+        job.setHeartbeatAt(LocalDateTime.now().minusMinutes(5));
+        conflicting.add(compositionIds.getFirst());
+
+        service().resumeUnfinished();
+        awaitStatus(EvaluationJob.Status.COMPLETED);
+
+        assertThat(evaluations.get(compositionIds.getFirst())).hasValue(3);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(job.getCompleted()).isEqualTo(compositionIds.size() - 1);
+    }
+
+    private EvaluationJobServiceImpl service() {
+        EvaluationJobServiceImpl service = new EvaluationJobServiceImpl(repository, mock(CompositionRepository.class),
+                mock(AccountRepository.class), evaluationService);
+        ReflectionTestUtils.setField(service, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(service, "claimTimeoutMs", CLAIM_TIMEOUT_MS);
+        service.init();
+        return service;
+    }
+
+    private boolean isUnclaimed(Collection<EvaluationJob.Status> statuses, LocalDateTime staleBefore) {
+        return statuses.contains(job.getStatus())
+                && (job.getClaimedBy() == null || job.getHeartbeatAt() == null || job.getHeartbeatAt().isBefore(staleBefore));
+    }
+
+    private Object update(String node, Runnable change) {
+        synchronized (job) {
+            if (node.equals(job.getClaimedBy())) change.run();
+        }
+        return null;
+    }
+
+    private void awaitStatus(EvaluationJob.Status status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (job.getStatus() != status) {
+            if (System.nanoTime() > deadline) throw new AssertionError("Job never reached " + status);
+            Thread.sleep(5);
+        }
+    }
+
+    private static String node(EvaluationJobServiceImpl service) {
+        return (String) ReflectionTestUtils.getField(service, "node");
+    }
+
+    private static void resumeAfter(CountDownLatch start, EvaluationJobServiceImpl service) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        service.resumeUnfinished();
+    }
+}
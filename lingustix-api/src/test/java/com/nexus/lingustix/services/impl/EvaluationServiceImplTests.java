@@ -0,0 +1,245 @@
+package com.nexus.lingustix.services.impl;
+
+import com.nexus.lingustix.components.AccountPreferencesComponent;
+import com.nexus.lingustix.components.CorrectionDeltaComponent;
+import com.nexus.lingustix.components.EvaluationStateComponent;
+import com.nexus.lingustix.components.GlobalExceptionComponent.ConflictException;
+import com.nexus.lingustix.components.FastCheckComponent;
+import com.nexus.lingustix.components.LanguageToolComponent;
+import com.nexus.lingustix.components.LanguageToolComponent.CheckRequest;
+import com.nexus.lingustix.components.LanguageToolComponent.Match;
+import com.nexus.lingustix.components.LanguageToolComponent.Priority;
+import com.nexus.lingustix.components.LanguageToolComponent.Response;
+import com.nexus.lingustix.components.LanguageToolEngine;
+import com.nexus.lingustix.components.SentenceCacheComponent;
+import com.nexus.lingustix.components.TextSegmentComponent;
+import com.nexus.lingustix.models.responses.Correction;
+import com.nexus.lingustix.repositories.AccountRepository;
+import com.nexus.lingustix.repositories.CompositionBodyRepository;
+import com.nexus.lingustix.repositories.CompositionRepository;
+import com.nexus.lingustix.repositories.CompositionRepository.EvaluationSettings;
+import com.nexus.lingustix.repositories.EvaluationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EvaluationServiceImplTests {
+
+    private static final String TYPO = "teh";
+
+    private final List<String> checkedTexts = new CopyOnWriteArrayList<>();
+    private final List<Priority> checkedPriorities = new CopyOnWriteArrayList<>();
+    private final Semaphore entered = new Semaphore(0);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CompositionBodyRepository compositionBodyRepository = mock(CompositionBodyRepository.class);
+    private volatile Predicate<CheckRequest> blocked = request -> false;
+    private EvaluationServiceImpl evaluationService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TextSegmentComponent textSegmentComponent = new TextSegmentComponent();
+
+        EvaluationSettings settings = mock(EvaluationSettings.class);
+        when(settings.getLanguageOverride()).thenReturn("en-US");
+        CompositionRepository compositionRepository = mock(CompositionRepository.class);
+        when(compositionRepository.findEvaluationSettingsById(any())).thenReturn(Optional.of(settings));
+
+        evaluationService = new EvaluationServiceImpl(
+                compositionRepository,
+                compositionBodyRepository,
+                mock(EvaluationRepository.class),
+                textSegmentComponent,
+                new SentenceCacheComponent(textSegmentComponent, meterRegistry, 1000, 60_000),
+                new EvaluationStateComponent(100, 60_000),
+                new LanguageToolComponent(meterRegistry, new TypoEngine(), 8, 1, 64, 60_000, 5000, 5000, 5, 10_000),
+                new FastCheckComponent(null, "en"),
+                new CorrectionDeltaComponent(textSegmentComponent, 100, 60_000),
+                new AccountPreferencesComponent(mock(AccountRepository.class), textSegmentComponent, meterRegistry, 100, 60_000));
+        ReflectionTestUtils.setField(evaluationService, "redetectRatio", 0.5);
+        ReflectionTestUtils.setField(evaluationService, "redetectDistance", 12);
+        ReflectionTestUtils.setField(evaluationService, "chunkThreshold", 6000);
+        ReflectionTestUtils.setField(evaluationService, "chunkMaxLength", 3000);
+        ReflectionTestUtils.setField(evaluationService, "chunkMaxParallel", 4);
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void joinsAnEvaluationOfTheSameContent() throws Exception {
+        UUID compositionId = UUID.randomUUID();
+        String content = "Teh cat sat down.";
+        blocked = request -> true;
+
+        Future<List<Correction>> first = executor.submit(() -> evaluationService.create(compositionId, content));
+        awaitEntered();
+        Future<List<Correction>> second = executor.submit(() -> evaluationService.create(compositionId, content));
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(checkedTexts).containsExactly(content);
+    }
+
+    @Test
+    void supersedesAnEvaluationOfOlderContent() throws Exception {
+        UUID compositionId = UUID.randomUUID();
+        blocked = request -> request.text().startsWith("Old");
+
+        Future<List<Correction>> older = executor.submit(() -> evaluationService.create(compositionId, "Old teh text."));
+        awaitEntered();
+        List<Correction> newer = evaluationService.create(compositionId, "New teh text.");
+
+        assertThat(newer).hasSize(1);
+        assertThatThrownBy(() -> older.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void backgroundEvaluationsDoNotCancelInteractiveOnes() throws Exception {
+        UUID compositionId = UUID.randomUUID();
+        when(compositionBodyRepository.findContentById(compositionId)).thenReturn(Optional.of("Stored teh text."));
+        blocked = request -> request.priority() == Priority.INTERACTIVE;
+
+        Future<List<Correction>> interactive = executor.submit(() -> evaluationService.create(compositionId, "Live teh text."));
+        awaitEntered();
+        Future<List<Correction>> background = executor.submit(() -> evaluationService.create(compositionId, Priority.BACKGROUND));
+        Thread.sleep(100);
+        assertThat(background).isNotDone();
+        release.countDown();
+
+        assertThat(interactive.get(5, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(background.get(5, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(checkedTexts).containsExactly("Live teh text.", "Stored teh text.");
+    }
+
+    @Test
+    void restartsABackgroundEvaluationAtInteractivePriority() throws Exception {
+        UUID compositionId = UUID.randomUUID();
+        String content = "Teh stored text.";
+        when(compositionBodyRepository.findContentById(compositionId)).thenReturn(Optional.of(content));
+        blocked = request -> request.priority() == Priority.BACKGROUND;
+
+        Future<List<Correction>> background = executor.submit(() -> evaluationService.create(compositionId, Priority.BACKGROUND));
+        awaitEntered();
+        List<Correction> interactive = evaluationService.create(compositionId, content);
+
+        assertThat(interactive).hasSize(1);
+        assertThat(background.get(5, TimeUnit.SECONDS)).isEqualTo(interactive);
+        assertThat(checkedPriorities).containsExactly(Priority.BACKGROUND, Priority.INTERACTIVE);
+    }
+
+    @Test
+    void rebasesCachedSentencesOntoTheirNewPosition() {
+        evaluationService.create(UUID.randomUUID(), "Teh cat sat down. The dog ran.");
+        checkedTexts.clear();
+
+        String content = "A new opening line. Teh cat sat down.";
+        List<Correction> corrections = evaluationService.create(UUID.randomUUID(), content);
+
+        assertThat(checkedTexts).containsExactly("A new opening line.");
+        assertThat(corrections).extracting(Correction::startOffset).containsExactly(content.indexOf("Teh"));
+        assertPointAtTypos(content, corrections);
+    }
+
+    @Test
+    void shiftsUnchangedParagraphsAfterAnInsertedOne() {
+        UUID compositionId = UUID.randomUUID();
+        evaluationService.create(compositionId, "First teh paragraph.\n\nSecond teh paragraph.");
+        checkedTexts.clear();
+
+        String content = "An inserted teh paragraph.\n\nFirst teh paragraph.\n\nSecond teh paragraph.";
+        List<Correction> corrections = evaluationService.create(compositionId, content);
+
+        assertThat(checkedTexts).containsExactly("An inserted teh paragraph.");
+        assertThat(corrections).hasSize(3);
+        assertPointAtTypos(content, corrections);
+    }
+
+    @Test
+    void mapsChunkedMatchesBackToTheDocument() {
+        ReflectionTestUtils.setField(evaluationService, "chunkThreshold", 100);
+        ReflectionTestUtils.setField(evaluationService, "chunkMaxLength", 80);
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            content.append("Sentence ").append(i).append(" has teh typo.").append(i % 5 == 4 ? "\n\n" : " ");
+        }
+        List<Correction> corrections = evaluationService.create(UUID.randomUUID(), content.toString());
+
+        assertThat(checkedTexts).hasSizeGreaterThan(1);
+        assertThat(checkedTexts).allSatisfy(text -> assertThat(text.length()).isLessThanOrEqualTo(80));
+        assertThat(corrections).hasSize(20).isSortedAccordingTo((a, b) -> Integer.compare(a.startOffset(), b.startOffset()));
+        assertPointAtTypos(content.toString(), corrections);
+    }
+
+    private void awaitEntered() throws InterruptedException {
+        assertThat(entered.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void assertPointAtTypos(String content, List<Correction> corrections) {
+        assertThat(corrections).allSatisfy(correction -> {
+            assertThat(correction.original()).isEqualToIgnoringCase(TYPO);
+            assertThat(content.substring(correction.startOffset(), correction.startOffset() + correction.length()))
+                    .isEqualTo(correction.original());
+        });
+    }
+
+    /**
+     * Flags every occurrence of {@value #TYPO} and records what it was asked to check.
+     * Requests matching {@code blocked} wait for {@code release}.
+     */
+    private class TypoEngine implements LanguageToolEngine {
+        @Override
+        public Response check(CheckRequest request, Permits permits) {
+            checkedTexts.add(request.text());
+            checkedPriorities.add(request.priority());
+            if (blocked.test(request)) {
+                entered.release();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ResourceAccessException("Interrupted");
+                }
+            }
+            String lower = request.text().toLowerCase(Locale.ROOT);
+            List<Match> matches = new ArrayList<>();
+            for (int i = lower.indexOf(TYPO); i >= 0; i = lower.indexOf(TYPO, i + 1)) {
+                matches.add(new Match(i, TYPO.length(), "Possible spelling mistake", List.of("the"), "TYPO", "TYPOS"));
+            }
+            return new Response(matches, null);
+        }
+
+        @Override
+        public boolean supports(String language) {
+            return true;
+        }
+    }
+}
@@ -6,12 +6,12 @@ import { motion, AnimatePresence } from 'framer-motion';
 import { FileText, Plus, Trash2, MoreVertical } from 'lucide-react';
 import { compositionApi } from '@/lib/api';
 import { Button, CompositionListSkeleton, useToast } from '@/components/ui';
-import type { CompositionResponse } from '@/types';
+import type { CompositionSummary } from '@/types';
 
 export function CompositionList() {
   const router = useRouter();
   const { showToast } = useToast();
-  const [compositions, setCompositions] = useState<CompositionResponse[]>([]);
+  const [compositions, setCompositions] = useState<CompositionSummary[]>([]);
   const [isLoading, setIsLoading] = useState(true);
   const [isCreating, setIsCreating] = useState(false);
   const [activeMenu, setActiveMenu] = useState<string | null>(null);
@@ -19,13 +19,8 @@ export function CompositionList() {
   const loadCompositions = useCallback(async () => {
     setIsLoading(true);
     try {
-      const idsPage = await compositionApi.getIds();
-
-      // Fetch details for each composition
-      const details = await Promise.all(
-        idsPage.content.map((id) => compositionApi.getById(id))
-      );
-      setCompositions(details);
+      const summaries = await compositionApi.getSummaries();
+      setCompositions(summaries.content);
     } catch {
       showToast('error', 'Failed to load compositions');
     } finally {
@@ -129,7 +124,7 @@ export function CompositionList() {
                       {composition.title || 'Untitled'}
                     </h3>
                     <p className="text-sm text-slate-500 line-clamp-2 mt-1">
-                      {composition.content || 'No content yet...'}
+                      {composition.excerpt || 'No content yet...'}
                     </p>
                   </div>
                   
@@ -9,11 +9,15 @@ import type {
   AccountUpdateUsernameRequest,
   CompositionCreateRequest,
   CompositionResponse,
+  CompositionSummary,
   CompositionUpdateContentRequest,
+  CompositionPatchContentRequest,
+  CompositionVersionResponse,
   CompositionUpdateTitleRequest,
   EvaluationCreateRequest,
   Correction,
   CompositionIndex,
+  CursorPage,
   Page,
 } from '@/types';
 
@@ -85,6 +89,13 @@ export const compositionApi = {
     return response.data;
   },
 
+  getSummaries: async (cursor?: string, size = 20): Promise<CursorPage<CompositionSummary>> => {
+    const response = await apiClient.get<CursorPage<CompositionSummary>>('/compositions/summaries', {
+      params: { cursor, size },
+    });
+    return response.data;
+  },
+
   updateTitle: async (id: string, data: CompositionUpdateTitleRequest): Promise<CompositionResponse> => {
     const response = await apiClient.patch<CompositionResponse>(`/compositions/${id}/title`, data);
     return response.data;
@@ -95,6 +106,11 @@ export const compositionApi = {
     return response.data;
   },
 
+  patchContent: async (id: string, data: CompositionPatchContentRequest): Promise<CompositionVersionResponse> => {
+    const response = await apiClient.post<CompositionVersionResponse>(`/compositions/${id}/content/patch`, data);
+    return response.data;
+  },
+
   delete: async (id: string): Promise<void> => {
     await apiClient.delete(`/compositions/${id}`);
   },
@@ -112,11 +128,11 @@ export const evaluationApi = {
 export const searchApi = {
   searchCompositions: async (
     query: string,
-    page = 0,
+    cursor?: string,
     size = 20
-  ): Promise<Page<CompositionIndex>> => {
-    const response = await apiClient.get<Page<CompositionIndex>>('/search/compositions', {
-      params: { query, page, size },
+  ): Promise<CursorPage<CompositionIndex>> => {
+    const response = await apiClient.get<CursorPage<CompositionIndex>>('/search/compositions', {
+      params: { query, cursor, size },
     });
     return response.data;
   },
@@ -1,6 +1,8 @@
 import { create } from 'zustand';
 import type { Correction, CompositionResponse } from '@/types';
+import { AxiosError } from 'axios';
 import { compositionApi, evaluationApi } from '@/lib/api';
+import { diffOperations } from '@/lib/utils';
 
 interface EditorState {
   composition: CompositionResponse | null;
@@ -31,6 +33,28 @@ interface EditorActions {
 
 type EditorStore = EditorState & EditorActions;
 
+// Sends only the edit since the last save; falls back to the whole document
+// when the server copy moved on (409) since this one was loaded.
+const persistContent = async (
+  composition: CompositionResponse,
+  content: string
+): Promise<CompositionResponse> => {
+  const operations = diffOperations(composition.content, content);
+  if (operations.length === 0) return composition;
+  try {
+    const saved = await compositionApi.patchContent(composition.id, {
+      baseVersion: composition.contentVersion,
+      operations,
+    });
+    return { ...composition, content, version: saved.version, contentVersion: saved.contentVersion };
+  } catch (error) {
+    if (error instanceof AxiosError && error.response?.status === 409) {
+      return compositionApi.updateContent(composition.id, { content });
+    }
+    throw error;
+  }
+};
+
 const initialState: EditorState = {
   composition: null,
   content: '',
@@ -117,12 +141,12 @@ export const useEditorStore = create<EditorStore>((set, get) => ({
 
     set({ isSaving: true, error: null });
     try {
-      const updated = await compositionApi.updateContent(composition.id, { content });
+      const updated = await persistContent(composition, content);
       set({
         composition: updated,
         isSaving: false,
         lastSaved: new Date(),
-        hasUnsavedChanges: false,
+        hasUnsavedChanges: get().content !== content,
       });
     } catch (error) {
       const errorMessage = error instanceof Error ? error.message : 'Failed to save';
@@ -154,12 +178,12 @@ export const useEditorStore = create<EditorStore>((set, get) => ({
     if (hasUnsavedChanges) {
       set({ isSaving: true, error: null });
       try {
-        const updated = await compositionApi.updateContent(composition.id, { content });
+        const updated = await persistContent(composition, content);
         set({
           composition: updated,
           isSaving: false,
           lastSaved: new Date(),
-          hasUnsavedChanges: false,
+          hasUnsavedChanges: get().content !== content,
         });
       } catch (error) {
         const errorMessage = error instanceof Error ? error.message : 'Failed to save';
@@ -1 +1,2 @@
 export { getErrorMessage, type ErrorContext } from './errorHandling';
+export { diffOperations } from './textOperations';
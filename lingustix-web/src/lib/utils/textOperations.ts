@@ -0,0 +1,39 @@
+import type { TextOperation } from '@/types';
+
+const isHighSurrogate = (code: number): boolean => code >= 0xd800 && code <= 0xdbff;
+const isLowSurrogate = (code: number): boolean => code >= 0xdc00 && code <= 0xdfff;
+
+/**
+ * Describes the change from `from` to `to` as a single retain/delete/insert
+ * edit around the common prefix and suffix, never splitting a surrogate pair.
+ */
+export const diffOperations = (from: string, to: string): TextOperation[] => {
+  const minLen = Math.min(from.length, to.length);
+  let prefix = 0;
+  while (prefix < minLen && from.charCodeAt(prefix) === to.charCodeAt(prefix)) {
+    prefix++;
+  }
+  if (prefix > 0 && isHighSurrogate(from.charCodeAt(prefix - 1))) {
+    prefix--;
+  }
+
+  let suffix = 0;
+  while (
+    suffix < minLen - prefix &&
+    from.charCodeAt(from.length - 1 - suffix) === to.charCodeAt(to.length - 1 - suffix)
+  ) {
+    suffix++;
+  }
+  if (suffix > 0 && isLowSurrogate(from.charCodeAt(from.length - suffix))) {
+    suffix--;
+  }
+
+  const operations: TextOperation[] = [];
+  if (prefix > 0) operations.push({ retain: prefix });
+  const deleted = from.length - prefix - suffix;
+  if (deleted > 0) operations.push({ delete: deleted });
+  const inserted = to.slice(prefix, to.length - suffix);
+  if (inserted.length > 0) operations.push({ insert: inserted });
+  if (suffix > 0) operations.push({ retain: suffix });
+  return operations;
+};
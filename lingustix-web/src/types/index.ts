@@ -10,11 +10,29 @@ export interface AccountResponse {
   email: string;
 }
 
+export interface AccountPreferences {
+  ignoredWords: string[];
+  disabledRules: string[];
+  disabledCategories: string[];
+}
+
 export interface CompositionResponse {
   id: string; // UUID
   title: string;
   content: string;
   ownerId: string; // UUID
+  language: string | null; // override, else the detected language
+  languageOverridden: boolean;
+  version: number;
+  contentVersion: number; // base of content patches
+}
+
+export interface CompositionSummary {
+  id: string; // UUID
+  title: string;
+  updatedAt: string | null; // ISO 8601 date string from LocalDateTime
+  wordCount: number | null;
+  excerpt: string | null;
 }
 
 export interface Correction {
@@ -23,6 +41,8 @@ export interface Correction {
   startOffset: number;
   length: number;
   explanation: string;
+  ruleId: string | null; // LanguageTool rule id, usable in AccountPreferences.disabledRules
+  categoryId: string | null;
 }
 
 export interface CompositionIndex {
@@ -64,6 +84,25 @@ export interface CompositionUpdateContentRequest {
   content: string;
 }
 
+// Exactly one of retain, insert or delete is set
+export interface TextOperation {
+  retain?: number;
+  insert?: string;
+  delete?: number;
+}
+
+export interface CompositionPatchContentRequest {
+  baseVersion: number;
+  operations: TextOperation[];
+}
+
+export interface CompositionVersionResponse {
+  id: string; // UUID
+  version: number;
+  contentVersion: number;
+  length: number;
+}
+
 export interface CompositionUpdateTitleRequest {
   title: string;
 }
@@ -84,6 +123,12 @@ export interface Page<T> {
   empty: boolean;
 }
 
+// Keyset-paginated listing; pass nextCursor back as `cursor`, null on the last page
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+}
+
 // Error Response Type
 export interface ApiError {
   status: number;